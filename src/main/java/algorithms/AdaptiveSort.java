@@ -0,0 +1,98 @@
+package algorithms;
+
+import metrics.Metrics;
+
+import java.util.Arrays;
+
+// Front door for int[] inputs of unknown shape: a fixed sample of short windows estimates
+// presortedness, value range and distinct count, and the cheapest engine for that shape sorts
+// the array. The engine actually used is recorded through Metrics.recordStrategy
+public class AdaptiveSort {
+    public enum Strategy {
+        INSERTION_SORT,
+        NATURAL_MERGE_SORT,
+        COUNTING_SORT,
+        RADIX_SORT,
+        MERGE_SORT,
+        QUICK_SORT
+    }
+
+    // Up to this length insertion sort beats any setup cost
+    private static final int INSERTION_SORT_MAX = 32;
+    // Sample: SAMPLE_WINDOWS evenly spaced runs of WINDOW consecutive elements
+    private static final int SAMPLE_WINDOWS = 64;
+    private static final int WINDOW = 8;
+    // Presorted when at most 1/PRESORTED_RATIO of sampled neighbours are out of order (or in order,
+    // for descending input): runs then average well above natural merge's minimum run length
+    private static final int PRESORTED_RATIO = 32;
+    // Duplicate-heavy when the sample holds at most 1/FEW_DISTINCT_RATIO distinct values;
+    // QuickSort's Lomuto partition degrades towards quadratic on those
+    private static final int FEW_DISTINCT_RATIO = 4;
+    // Radix passes cost a fixed 4 sweeps plus histograms, which pays off from here on
+    private static final int RADIX_MIN_LENGTH = 1 << 12;
+
+    public static void sort(int[] array, Metrics metrics) {
+        if (array == null || array.length <= 1) return;
+        Strategy strategy = choose(array, metrics);
+        if (strategy == Strategy.COUNTING_SORT && !RadixSort.countingSort(array, array.length, metrics)) {
+            // The sample missed outliers that widen the range past a count per element
+            strategy = Strategy.RADIX_SORT;
+        }
+        metrics.recordStrategy(strategy.name());
+
+        switch (strategy) {
+            case INSERTION_SORT -> IntKernels.insertionSort(array, 0, array.length - 1, metrics);
+            case NATURAL_MERGE_SORT -> MergeSort.naturalSort(array, metrics);
+            case RADIX_SORT -> RadixSort.sort(array, metrics);
+            case MERGE_SORT -> MergeSort.sort(array, metrics);
+            case QUICK_SORT -> QuickSort.sort(array, metrics);
+            case COUNTING_SORT -> { }
+        }
+    }
+
+    // Package-private so tests can check the decision without sorting
+    static Strategy choose(int[] array, Metrics metrics) {
+        int n = array.length;
+        if (n <= INSERTION_SORT_MAX) {
+            return Strategy.INSERTION_SORT;
+        }
+
+        int windows = Math.min(SAMPLE_WINDOWS, n / WINDOW);
+        int stride = n / windows;
+        int[] sample = new int[windows * WINDOW];
+        metrics.recordAllocation((long) sample.length * Integer.BYTES);
+        int descents = 0, ascents = 0;
+        for (int w = 0; w < windows; w++) {
+            int start = w * stride;
+            for (int i = 0; i < WINDOW; i++) {
+                int value = array[start + i];
+                sample[w * WINDOW + i] = value;
+                if (i > 0) {
+                    int previous = array[start + i - 1];
+                    descents += previous > value ? 1 : 0;
+                    ascents += previous < value ? 1 : 0;
+                }
+            }
+        }
+        int pairs = windows * (WINDOW - 1);
+        metrics.incrementComparisons(pairs);
+        if (descents * PRESORTED_RATIO <= pairs || ascents * PRESORTED_RATIO <= pairs) {
+            return Strategy.NATURAL_MERGE_SORT;
+        }
+
+        Arrays.sort(sample);
+        long sampleRange = (long) sample[sample.length - 1] - sample[0];
+        if (sampleRange <= n / 2) {
+            return Strategy.COUNTING_SORT;
+        }
+        if (n >= RADIX_MIN_LENGTH) {
+            return Strategy.RADIX_SORT;
+        }
+
+        int distinct = 1;
+        for (int i = 1; i < sample.length; i++) {
+            distinct += sample[i] != sample[i - 1] ? 1 : 0;
+        }
+        return distinct * FEW_DISTINCT_RATIO <= sample.length ? Strategy.MERGE_SORT : Strategy.QUICK_SORT;
+    }
+}
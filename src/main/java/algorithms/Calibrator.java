@@ -0,0 +1,133 @@
+package algorithms;
+
+import metrics.Metrics;
+import util.TuningProfile;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntToLongFunction;
+
+// Times each candidate threshold on this host and keeps the fastest, producing the values
+// TuningProfile loads at startup. Candidates are timed in interleaved rounds after one
+// untimed warm-up round, and each keeps its best time, so JIT warm-up and background
+// noise don't favour whichever candidate happens to run last
+public class Calibrator {
+    static final int[] INSERTION_SORT_CUTOFFS = {3, 5, 7, 11, 15, 23, 31};
+    static final int[] BRUTE_FORCE_CUTOFFS = {2, 3, 5, 7, 11, 15};
+    static final int[] PARALLEL_GRAINS = {1 << 10, 1 << 11, 1 << 12, 1 << 13, 1 << 14, 1 << 15, 1 << 16};
+
+    private final int arraySize;
+    private final int rounds;
+    private final ForkJoinPool pool;
+    private final Random random = new Random(42);
+
+    // arraySize is the sequential sort size. Parallel sort and select grains are timed on 16x
+    // that; closest pair uses a quarter of it sequentially and 4x in parallel
+    public Calibrator(int arraySize, int rounds, ForkJoinPool pool) {
+        if (arraySize < 2 || rounds < 1) {
+            throw new IllegalArgumentException("Calibration needs at least 2 elements and 1 round");
+        }
+        this.arraySize = arraySize;
+        this.rounds = rounds;
+        this.pool = pool;
+    }
+
+    public Map<String, Integer> calibrate() {
+        Map<String, Integer> profile = new LinkedHashMap<>();
+        profile.put(TuningProfile.MERGE_SORT_INSERTION_CUTOFF, insertionSortCutoff());
+        profile.put(TuningProfile.CLOSEST_PAIR_BRUTE_FORCE_CUTOFF, closestPairBruteForceCutoff());
+        profile.put(TuningProfile.MERGE_SORT_PARALLEL_GRAIN, mergeSortParallelGrain());
+        profile.put(TuningProfile.QUICK_SORT_PARALLEL_GRAIN, quickSortParallelGrain());
+        profile.put(TuningProfile.CLOSEST_PAIR_PARALLEL_GRAIN, closestPairParallelGrain());
+        profile.put(TuningProfile.SELECT_PARALLEL_GRAIN, selectParallelGrain());
+        return profile;
+    }
+
+    public int insertionSortCutoff() {
+        int[] data = random.ints(arraySize).toArray();
+        return fastest(INSERTION_SORT_CUTOFFS, cutoff -> {
+            int[] array = data.clone();
+            long start = System.nanoTime();
+            MergeSort.sort(array, cutoff, new Metrics());
+            return System.nanoTime() - start;
+        });
+    }
+
+    public int closestPairBruteForceCutoff() {
+        ClosestPair.Point[] points = randomPoints(Math.max(2, arraySize / 4));
+        return fastest(BRUTE_FORCE_CUTOFFS, cutoff -> {
+            long start = System.nanoTime();
+            ClosestPair.findClosestPair(points, cutoff, new Metrics());
+            return System.nanoTime() - start;
+        });
+    }
+
+    public int mergeSortParallelGrain() {
+        int[] data = random.ints(16 * arraySize).toArray();
+        return fastest(PARALLEL_GRAINS, grain -> {
+            int[] array = data.clone();
+            long start = System.nanoTime();
+            MergeSort.parallelSort(array, grain, new Metrics(), pool);
+            return System.nanoTime() - start;
+        });
+    }
+
+    public int quickSortParallelGrain() {
+        int[] data = random.ints(16 * arraySize).toArray();
+        return fastest(PARALLEL_GRAINS, grain -> {
+            int[] array = data.clone();
+            long start = System.nanoTime();
+            QuickSort.parallelSort(array, grain, new Metrics(), pool);
+            return System.nanoTime() - start;
+        });
+    }
+
+    public int closestPairParallelGrain() {
+        ClosestPair.Point[] points = randomPoints(4 * arraySize);
+        return fastest(PARALLEL_GRAINS, grain -> {
+            long start = System.nanoTime();
+            ClosestPair.findClosestPairParallel(points, grain, new Metrics(), pool);
+            return System.nanoTime() - start;
+        });
+    }
+
+    public int selectParallelGrain() {
+        int[] data = random.ints(16 * arraySize).toArray();
+        return fastest(PARALLEL_GRAINS, grain -> {
+            int[] array = data.clone();
+            long start = System.nanoTime();
+            DeterministicSelect.parallelSelect(array, array.length / 2, grain, new Metrics(), pool);
+            return System.nanoTime() - start;
+        });
+    }
+
+    // trial runs the workload with one candidate and returns the elapsed nanoseconds
+    private int fastest(int[] candidates, IntToLongFunction trial) {
+        long[] best = new long[candidates.length];
+        for (int c = 0; c < candidates.length; c++) {
+            trial.applyAsLong(candidates[c]);
+            best[c] = Long.MAX_VALUE;
+        }
+        for (int round = 0; round < rounds; round++) {
+            for (int c = 0; c < candidates.length; c++) {
+                best[c] = Math.min(best[c], trial.applyAsLong(candidates[c]));
+            }
+        }
+
+        int fastest = 0;
+        for (int c = 1; c < candidates.length; c++) {
+            if (best[c] < best[fastest]) fastest = c;
+        }
+        return candidates[fastest];
+    }
+
+    private ClosestPair.Point[] randomPoints(int n) {
+        ClosestPair.Point[] points = new ClosestPair.Point[n];
+        for (int i = 0; i < n; i++) {
+            points[i] = new ClosestPair.Point(random.nextDouble() * 1000, random.nextDouble() * 1000);
+        }
+        return points;
+    }
+}
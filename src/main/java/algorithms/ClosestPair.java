@@ -1,12 +1,28 @@
 package algorithms;
 
+import divideconquer.DivideAndConquer;
+import divideconquer.DivideAndConquerRunner;
+import divideconquer.Range;
 import metrics.Metrics;
 import metrics.RecursionTracker;
+import util.ScratchArena;
+import util.TuningProfile;
 
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 public class ClosestPair {
+    private static final Comparator<Point> BY_X = Comparator.comparingDouble(p -> p.x);
+    private static final Comparator<Point> BY_Y = Comparator.comparingDouble(p -> p.y);
+    // Ranges of at most BRUTE_FORCE_CUTOFF + 1 points are compared pairwise. Parallel mode: halves of
+    // at most PARALLEL_GRAIN points are solved sequentially by one task. Both come from the tuning
+    // profile when one has been calibrated for this machine
+    private static final int BRUTE_FORCE_CUTOFF =
+            TuningProfile.getInt(TuningProfile.CLOSEST_PAIR_BRUTE_FORCE_CUTOFF, 3, 1);
+    private static final int PARALLEL_GRAIN =
+            TuningProfile.getInt(TuningProfile.CLOSEST_PAIR_PARALLEL_GRAIN, 1 << 12, 16);
 
     public static class Point {
         public final double x, y;
@@ -23,20 +39,58 @@ public class ClosestPair {
     }
 
     public static double findClosestPair(Point[] points, Metrics metrics) {
+        return findClosestPair(points, BRUTE_FORCE_CUTOFF, metrics);
+    }
+
+    // Entry points with an explicit threshold, for the calibrator
+    static double findClosestPair(Point[] points, int bruteForceCutoff, Metrics metrics) {
         if (points == null || points.length < 2) {
             throw new IllegalArgumentException("At least two points required");
         }
 
-        // Sort by x coordinate
-        Point[] pointsByX = points.clone();
-        Arrays.sort(pointsByX, Comparator.comparingDouble(p -> p.x));
-        metrics.incrementAllocations();
+        // Sort by x coordinate; the copy and one strip buffer shared by all levels come from the scratch arena
+        int n = points.length;
+        Point[] pointsByX = ScratchArena.borrowObjects(Point.class, n, metrics);
+        Point[] strip = ScratchArena.borrowObjects(Point.class, n, metrics);
+        try {
+            System.arraycopy(points, 0, pointsByX, 0, n);
+            Arrays.sort(pointsByX, 0, n, BY_X);
+            return new DivideAndConquerRunner<>(new Steps(pointsByX, strip, bruteForceCutoff), PARALLEL_GRAIN)
+                    .solve(new Range(0, n - 1), metrics);
+        } finally {
+            ScratchArena.release(strip, n);
+            ScratchArena.release(pointsByX, n);
+        }
+    }
+
+    public static double findClosestPairParallel(Point[] points, Metrics metrics) {
+        return findClosestPairParallel(points, metrics, ForkJoinPool.commonPool());
+    }
+
+    public static double findClosestPairParallel(Point[] points, Metrics metrics, ForkJoinPool pool) {
+        return findClosestPairParallel(points, PARALLEL_GRAIN, metrics, pool);
+    }
 
-        return findClosestPair(pointsByX, 0, points.length - 1, metrics);
+    static double findClosestPairParallel(Point[] points, int grain, Metrics metrics, ForkJoinPool pool) {
+        if (points == null || points.length < 2) {
+            throw new IllegalArgumentException("At least two points required");
+        }
+
+        int n = points.length;
+        Point[] pointsByX = ScratchArena.borrowObjects(Point.class, n, metrics);
+        try {
+            System.arraycopy(points, 0, pointsByX, 0, n);
+            Arrays.sort(pointsByX, 0, n, BY_X);
+            return new DivideAndConquerRunner<>(new Steps(pointsByX, null, BRUTE_FORCE_CUTOFF), grain)
+                    .solveParallel(new Range(0, n - 1), metrics, pool);
+        } finally {
+            ScratchArena.release(pointsByX, n);
+        }
     }
 
-    private static double findClosestPair(Point[] pointsByX, int left, int right, Metrics metrics) {
-        if (right - left <= 3) {
+    private static double findClosestPair(Point[] pointsByX, int left, int right, Point[] strip,
+                                          int bruteForceCutoff, Metrics metrics) {
+        if (right - left <= bruteForceCutoff) {
             return bruteForce(pointsByX, left, right, metrics);
         }
 
@@ -44,12 +98,12 @@ public class ClosestPair {
             int mid = left + (right - left) / 2;
             double midX = pointsByX[mid].x;
 
-            double dLeft = findClosestPair(pointsByX, left, mid, metrics);
-            double dRight = findClosestPair(pointsByX, mid + 1, right, metrics);
+            double dLeft = findClosestPair(pointsByX, left, mid, strip, bruteForceCutoff, metrics);
+            double dRight = findClosestPair(pointsByX, mid + 1, right, strip, bruteForceCutoff, metrics);
             double d = Math.min(dLeft, dRight);
 
             // Check strip around mid-line
-            return Math.min(d, checkStrip(pointsByX, left, right, midX, d, metrics));
+            return Math.min(d, checkStrip(pointsByX, left, right, midX, d, strip, metrics));
         }
     }
 
@@ -70,9 +124,8 @@ public class ClosestPair {
     }
 
     private static double checkStrip(Point[] pointsByX, int left, int right, double midX,
-                                     double d, Metrics metrics) {
-        // Collect points in strip
-        Point[] strip = new Point[right - left + 1];
+                                     double d, Point[] strip, Metrics metrics) {
+        // Collect points in strip; the buffer is free again once the recursive calls returned
         int stripSize = 0;
 
         for (int i = left; i <= right; i++) {
@@ -82,7 +135,7 @@ public class ClosestPair {
         }
 
         // Sort strip by y coordinate
-        Arrays.sort(strip, 0, stripSize, Comparator.comparingDouble(p -> p.y));
+        Arrays.sort(strip, 0, stripSize, BY_Y);
 
         double minDistance = d;
 
@@ -101,4 +154,57 @@ public class ClosestPair {
 
         return minDistance;
     }
-}
\ No newline at end of file
+
+    // Both modes on the shared runner; halves up to the grain go to the recursive kernel.
+    // Sequential mode shares one strip buffer across all levels. In parallel mode halves run as
+    // separate tasks, so strip is null and each leaf and each combine borrows one from its
+    // worker's scratch arena
+    private static class Steps implements DivideAndConquer<Range, Double> {
+        private final Point[] pointsByX;
+        private final Point[] strip;
+        private final int bruteForceCutoff;
+
+        Steps(Point[] pointsByX, Point[] strip, int bruteForceCutoff) {
+            this.pointsByX = pointsByX;
+            this.strip = strip;
+            this.bruteForceCutoff = bruteForceCutoff;
+        }
+
+        @Override
+        public int size(Range range) { return range.size(); }
+
+        @Override
+        public Double solveDirectly(Range range, Metrics metrics) {
+            if (strip != null) {
+                return findClosestPair(pointsByX, range.left(), range.right(), strip, bruteForceCutoff, metrics);
+            }
+            Point[] borrowed = ScratchArena.borrowObjects(Point.class, range.size(), metrics);
+            try {
+                return findClosestPair(pointsByX, range.left(), range.right(), borrowed, bruteForceCutoff, metrics);
+            } finally {
+                ScratchArena.release(borrowed, range.size());
+            }
+        }
+
+        @Override
+        public List<Range> divide(Range range, Metrics metrics) {
+            int mid = range.mid();
+            return List.of(new Range(range.left(), mid), new Range(mid + 1, range.right()));
+        }
+
+        @Override
+        public Double combine(Range range, List<Double> results, Metrics metrics) {
+            double d = Math.min(results.get(0), results.get(1));
+            double midX = pointsByX[range.mid()].x;
+            if (strip != null) {
+                return Math.min(d, checkStrip(pointsByX, range.left(), range.right(), midX, d, strip, metrics));
+            }
+            Point[] borrowed = ScratchArena.borrowObjects(Point.class, range.size(), metrics);
+            try {
+                return Math.min(d, checkStrip(pointsByX, range.left(), range.right(), midX, d, borrowed, metrics));
+            } finally {
+                ScratchArena.release(borrowed, range.size());
+            }
+        }
+    }
+}
@@ -1,10 +1,28 @@
 package algorithms;
 
+import divideconquer.DivideAndConquer;
+import divideconquer.DivideAndConquerRunner;
+import divideconquer.Range;
 import metrics.Metrics;
-import metrics.RecursionTracker;
 import util.ArrayUtils;
+import util.TuningProfile;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 public class DeterministicSelect {
+    // Ranges up to the grain go to the recursive kernel. Parallel mode: above
+    // PARALLEL_MEDIANS_THRESHOLD the groups of five are sorted in parallel, MEDIANS_CHUNK groups per task.
+    // The grain comes from the tuning profile when one has been calibrated for this machine
+    private static final int PARALLEL_GRAIN =
+            TuningProfile.getInt(TuningProfile.SELECT_PARALLEL_GRAIN, 1 << 13, 16);
+    private static final int PARALLEL_MEDIANS_THRESHOLD = 1 << 16;
+    private static final int MEDIANS_CHUNK = 1 << 12;
+    // selectIterative frames: left, right, k (or ~k while suspended) and the levels entered.
+    // Only median-of-medians selects nest, each on ceil(n/5) elements, which is 14 deep for 2^31
+    private static final int FRAME_SIZE = 4;
+    private static final int MAX_FRAMES = 16;
 
     public static int select(int[] array, int k, Metrics metrics) {
         if (array == null || array.length == 0) {
@@ -16,77 +34,230 @@ public class DeterministicSelect {
         return select(array, 0, array.length - 1, k, metrics);
     }
 
+    // k-th smallest (0-based, relative to from) of array[from, to); only that range is reordered
+    public static int selectRange(int[] array, int from, int to, int k, Metrics metrics) {
+        if (array == null || from < 0 || to > array.length || from >= to) {
+            throw new IllegalArgumentException("Range must be a non-empty part of the array");
+        }
+        if (k < 0 || k >= to - from) {
+            throw new IllegalArgumentException("k must be in [0, to-from-1]");
+        }
+        return select(array, from, to - 1, from + k, metrics);
+    }
+
+    // Sequential selects go through the same runner as parallelSelect
     private static int select(int[] array, int left, int right, int k, Metrics metrics) {
-        if (left == right) return array[left];
+        return new DivideAndConquerRunner<>(new Steps(array, k, false), PARALLEL_GRAIN)
+                .solve(new Range(left, right), metrics);
+    }
 
-        try (RecursionTracker rt = new RecursionTracker(metrics)) {
-            int pivotIndex = medianOfMedians(array, left, right, metrics);
-            pivotIndex = partition(array, left, right, pivotIndex, metrics);
+    // Same algorithm as select() with the recursion replaced by a primitive work stack, for
+    // callers on small thread stacks such as virtual threads. Each frame is a pending select of
+    // [left, right]; one whose group medians are being selected by the frame above it stores ~k.
+    // The metrics depth is still the depth select() would reach: every round of a frame counts
+    // one level, released when the frame is done
+    public static int selectIterative(int[] array, int k, Metrics metrics) {
+        if (array == null || array.length == 0) {
+            throw new IllegalArgumentException("Array must not be null or empty");
+        }
+        if (k < 0 || k >= array.length) {
+            throw new IllegalArgumentException("k must be in [0, array.length-1]");
+        }
 
-            if (k == pivotIndex) {
-                return array[k];
-            } else if (k < pivotIndex) {
-                return select(array, left, pivotIndex - 1, k, metrics);
+        int[] stack = new int[FRAME_SIZE * MAX_FRAMES];
+        metrics.recordAllocation((long) stack.length * Integer.BYTES);
+        int top = push(stack, 0, 0, array.length - 1, k);
+        while (top > 0) {
+            int frame = top - FRAME_SIZE;
+            int left = stack[frame], right = stack[frame + 1], target = stack[frame + 2];
+            int pivotIndex;
+            if (target >= 0) {
+                if (left == right) {
+                    top = pop(stack, frame, metrics);
+                    continue;
+                }
+                metrics.enterRecursion();
+                stack[frame + 3]++;
+                if (right - left >= 5) {
+                    // Suspend this frame until the median of its group medians is in place
+                    int numGroups = IntKernels.moveGroupMedians(array, left, right, metrics);
+                    stack[frame + 2] = ~target;
+                    top = push(stack, top, left, left + numGroups - 1, left + numGroups / 2);
+                    continue;
+                }
+                pivotIndex = IntKernels.medianOfFive(array, left, right, metrics);
             } else {
-                return select(array, pivotIndex + 1, right, k, metrics);
+                target = ~target;
+                stack[frame + 2] = target;
+                pivotIndex = left + (right - left + 5) / 5 / 2;
+            }
+
+            // The rest of a select() round; narrowing the frame replaces the recursive call
+            pivotIndex = IntKernels.partition(array, left, right, pivotIndex, metrics);
+            if (target == pivotIndex) {
+                top = pop(stack, frame, metrics);
+            } else if (target < pivotIndex) {
+                stack[frame + 1] = pivotIndex - 1;
+            } else {
+                int equalEnd = IntKernels.partitionEqual(array, pivotIndex, right, metrics);
+                if (target <= equalEnd) {
+                    top = pop(stack, frame, metrics);
+                } else {
+                    stack[frame] = equalEnd + 1;
+                }
             }
         }
+        return array[k];
+    }
+
+    private static int push(int[] stack, int top, int left, int right, int k) {
+        stack[top] = left;
+        stack[top + 1] = right;
+        stack[top + 2] = k;
+        stack[top + 3] = 0;
+        return top + FRAME_SIZE;
     }
 
-    private static int medianOfMedians(int[] array, int left, int right, Metrics metrics) {
-        int n = right - left + 1;
-        if (n <= 5) {
-            return medianOfFive(array, left, right, metrics);
+    private static int pop(int[] stack, int frame, Metrics metrics) {
+        for (int level = stack[frame + 3]; level > 0; level--) {
+            metrics.exitRecursion();
         }
+        return frame;
+    }
+
+    public static int parallelSelect(int[] array, int k, Metrics metrics) {
+        return parallelSelect(array, k, metrics, ForkJoinPool.commonPool());
+    }
 
-        // Group into n/5 groups of 5
-        int numGroups = (n + 4) / 5;
-        int[] medians = new int[numGroups];
-        metrics.incrementAllocations();
+    // Only one side survives each partition, so the parallelism is inside a step: the
+    // median-of-medians groups of large ranges are sorted concurrently
+    public static int parallelSelect(int[] array, int k, Metrics metrics, ForkJoinPool pool) {
+        return parallelSelect(array, k, PARALLEL_GRAIN, metrics, pool);
+    }
+
+    // Entry point with an explicit grain, for the calibrator
+    static int parallelSelect(int[] array, int k, int grain, Metrics metrics, ForkJoinPool pool) {
+        if (array == null || array.length == 0) {
+            throw new IllegalArgumentException("Array must not be null or empty");
+        }
+        if (k < 0 || k >= array.length) {
+            throw new IllegalArgumentException("k must be in [0, array.length-1]");
+        }
+        return new DivideAndConquerRunner<>(new Steps(array, k, true), grain)
+                .solveParallel(new Range(0, array.length - 1), metrics, pool);
+    }
+
+    public static long select(long[] array, int k, Metrics metrics) {
+        if (array == null || array.length == 0) {
+            throw new IllegalArgumentException("Array must not be null or empty");
+        }
+        if (k < 0 || k >= array.length) {
+            throw new IllegalArgumentException("k must be in [0, array.length-1]");
+        }
+        return LongKernels.select(array, 0, array.length - 1, k, metrics);
+    }
+
+    // Floating-point selection runs on order-preserving bit patterns, so ranks follow
+    // Double.compare (-0.0 before 0.0, NaN last); the input array is left untouched
+    public static double select(double[] array, int k, Metrics metrics) {
+        if (array == null || array.length == 0) {
+            throw new IllegalArgumentException("Array must not be null or empty");
+        }
+        long[] bits = ArrayUtils.toSortableBits(array);
+        metrics.recordAllocation((long) bits.length * Long.BYTES);
+        return ArrayUtils.fromSortableBits(select(bits, k, metrics));
+    }
+
+    public static float select(float[] array, int k, Metrics metrics) {
+        if (array == null || array.length == 0) {
+            throw new IllegalArgumentException("Array must not be null or empty");
+        }
+        int[] bits = ArrayUtils.toSortableBits(array);
+        metrics.recordAllocation((long) bits.length * Integer.BYTES);
+        return ArrayUtils.fromSortableBits(select(bits, k, metrics));
+    }
+
+    // Same pivot as IntKernels.medianOfMedians. Sorting a group only touches that group, so the
+    // groups are sorted concurrently first; the sequential pass then moves each median to the front,
+    // which reads the medians exactly as the interleaved loop would, since a swap only writes
+    // positions of groups that are already done
+    private static int parallelMedianOfMedians(int[] array, int left, int right, Metrics metrics) {
+        int numGroups = (right - left + 5) / 5;
+        int chunks = (numGroups + MEDIANS_CHUNK - 1) / MEDIANS_CHUNK;
+        ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[chunks];
+        Metrics[] chunkMetrics = new Metrics[chunks];
+        for (int c = 0; c < chunks; c++) {
+            Metrics child = metrics.createChild();
+            int firstGroup = c * MEDIANS_CHUNK, endGroup = Math.min(firstGroup + MEDIANS_CHUNK, numGroups);
+            chunkMetrics[c] = child;
+            tasks[c] = ForkJoinTask.adapt(() -> {
+                for (int i = firstGroup; i < endGroup; i++) {
+                    int groupLeft = left + i * 5;
+                    IntKernels.medianOfFive(array, groupLeft, Math.min(groupLeft + 4, right), child);
+                }
+            });
+        }
+        ForkJoinTask.invokeAll(tasks);
+        for (Metrics child : chunkMetrics) {
+            metrics.merge(child);
+        }
 
         for (int i = 0; i < numGroups; i++) {
             int groupLeft = left + i * 5;
             int groupRight = Math.min(groupLeft + 4, right);
-            medians[i] = medianOfFive(array, groupLeft, groupRight, metrics);
+            ArrayUtils.swap(array, left + i, groupLeft + (groupRight - groupLeft) / 2);
         }
 
-        // Recursively find median of medians
-        return select(medians, 0, numGroups - 1, numGroups / 2, metrics);
+        int mid = left + numGroups / 2;
+        IntKernels.select(array, left, left + numGroups - 1, mid, metrics);
+        return mid;
     }
 
-    private static int medianOfFive(int[] array, int left, int right, Metrics metrics) {
-        // Simple insertion sort for 5 elements
-        for (int i = left + 1; i <= right; i++) {
-            int key = array[i];
-            int j = i - 1;
-            while (j >= left) {
-                metrics.incrementComparisons();
-                if (array[j] > key) {
-                    array[j + 1] = array[j];
-                    j--;
-                } else {
-                    break;
-                }
-            }
-            array[j + 1] = key;
+    // Each divide step is one round of select(): pivot, partition and, when k is past the
+    // pivot, the fat-pivot band. It yields the side holding k, or nothing once k is settled.
+    // parallel sorts the groups of five of large ranges concurrently
+    private static class Steps implements DivideAndConquer<Range, Integer> {
+        private final int[] array;
+        private final int k;
+        private final boolean parallel;
+
+        Steps(int[] array, int k, boolean parallel) {
+            this.array = array;
+            this.k = k;
+            this.parallel = parallel;
+        }
+
+        @Override
+        public int size(Range range) { return range.size(); }
+
+        @Override
+        public Integer solveDirectly(Range range, Metrics metrics) {
+            return IntKernels.select(array, range.left(), range.right(), k, metrics);
         }
-        return left + (right - left) / 2;
-    }
 
-    private static int partition(int[] array, int left, int right, int pivotIndex, Metrics metrics) {
-        int pivotValue = array[pivotIndex];
-        ArrayUtils.swap(array, pivotIndex, right);
+        @Override
+        public List<Range> divide(Range range, Metrics metrics) {
+            int left = range.left(), right = range.right();
+            int pivotIndex = parallel && range.size() > PARALLEL_MEDIANS_THRESHOLD
+                    ? parallelMedianOfMedians(array, left, right, metrics)
+                    : IntKernels.medianOfMedians(array, left, right, metrics);
+            pivotIndex = IntKernels.partition(array, left, right, pivotIndex, metrics);
 
-        int storeIndex = left;
-        for (int i = left; i < right; i++) {
-            metrics.incrementComparisons();
-            if (array[i] < pivotValue) {
-                ArrayUtils.swap(array, storeIndex, i);
-                storeIndex++;
+            if (k == pivotIndex) {
+                return List.of();
+            } else if (k < pivotIndex) {
+                return List.of(new Range(left, pivotIndex - 1));
             }
+            int equalEnd = IntKernels.partitionEqual(array, pivotIndex, right, metrics);
+            if (k <= equalEnd) {
+                return List.of();
+            }
+            return List.of(new Range(equalEnd + 1, right));
         }
 
-        ArrayUtils.swap(array, storeIndex, right);
-        return storeIndex;
+        @Override
+        public Integer combine(Range range, List<Integer> results, Metrics metrics) {
+            return results.isEmpty() ? array[k] : results.get(0);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,219 @@
+package algorithms;
+
+import metrics.Metrics;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+// Sorts binary files of big-endian ints that do not fit in memory. The input is read in
+// memory-mapped chunks that are sorted with MergeSort and spilled as runs next to the
+// output file; the runs are then k-way merged through a LoserTree with large sequential
+// buffers. Each open run holds a file descriptor, so at most MAX_FAN_IN runs are merged at
+// once: with more runs, earlier passes merge groups of MAX_FAN_IN into longer runs first.
+public class ExternalMergeSort {
+    // 16M ints = 64 MB per in-memory run
+    public static final int DEFAULT_RUN_LENGTH = 1 << 24;
+    // Well under the common 1024 open-file limit; 512 runs of the default length are 32 GB
+    public static final int MAX_FAN_IN = 512;
+    private static final ValueLayout.OfInt BIG_ENDIAN_INT =
+            ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final int OUTPUT_BUFFER_BYTES = 4 << 20;
+    // Total read-buffer budget shared by all runs during the merge, with a per-run floor
+    private static final int MERGE_BUFFER_BUDGET = 64 << 20;
+    private static final int MIN_RUN_BUFFER_BYTES = 64 << 10;
+
+    public static void sort(Path input, Path output, Metrics metrics) throws IOException {
+        sort(input, output, DEFAULT_RUN_LENGTH, metrics);
+    }
+
+    public static void sort(Path input, Path output, int runLength, Metrics metrics) throws IOException {
+        sort(input, output, runLength, MAX_FAN_IN, metrics);
+    }
+
+    // Explicit fan-in, so tests can force multi-pass merges on small inputs
+    static void sort(Path input, Path output, int runLength, int maxFanIn, Metrics metrics) throws IOException {
+        if (maxFanIn < 2) {
+            throw new IllegalArgumentException("Fan-in must be at least 2");
+        }
+        if (runLength < 1 || (long) runLength * Integer.BYTES > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Run length must be in [1, " + Integer.MAX_VALUE / Integer.BYTES + "]");
+        }
+        long size = Files.size(input);
+        if (size % Integer.BYTES != 0) {
+            throw new IllegalArgumentException("Input size must be a multiple of " + Integer.BYTES + " bytes");
+        }
+
+        Path tempDir = output.toAbsolutePath().getParent();
+        List<Path> runs = new ArrayList<>();
+        // One write buffer serves every spilled run and every merge pass
+        ByteBuffer outBuffer = ByteBuffer.allocateDirect(OUTPUT_BUFFER_BYTES);
+        metrics.recordAllocation(OUTPUT_BUFFER_BYTES);
+        try {
+            spillSortedRuns(input, size, runLength, tempDir, runs, outBuffer, metrics);
+            // Merged runs join the back of the list, so every run goes through about the same
+            // number of passes
+            while (runs.size() > maxFanIn) {
+                List<Path> group = new ArrayList<>(runs.subList(0, maxFanIn));
+                Path merged = Files.createTempFile(tempDir, "run-", ".bin");
+                runs.add(merged);
+                mergeRuns(group, merged, outBuffer, metrics);
+                for (Path run : group) {
+                    Files.delete(run);
+                }
+                runs.subList(0, maxFanIn).clear();
+            }
+
+            if (runs.isEmpty()) {
+                Files.deleteIfExists(output);
+                Files.createFile(output);
+            } else if (runs.size() == 1) {
+                Files.move(runs.remove(0), output, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                mergeRuns(runs, output, outBuffer, metrics);
+            }
+        } finally {
+            for (Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+        }
+    }
+
+    private static void spillSortedRuns(Path input, long size, int runLength, Path tempDir, List<Path> runs,
+                                        ByteBuffer outBuffer, Metrics metrics) throws IOException {
+        int[] chunk = null;
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+            for (long offset = 0; offset < size; offset += (long) runLength * Integer.BYTES) {
+                int count = (int) (Math.min((long) runLength * Integer.BYTES, size - offset) / Integer.BYTES);
+                if (chunk == null || chunk.length != count) {
+                    chunk = new int[count];
+                    metrics.recordAllocation((long) count * Integer.BYTES);
+                }
+
+                // Closing the arena unmaps the region instead of leaving it to the garbage collector
+                try (Arena arena = Arena.ofConfined()) {
+                    MemorySegment region = in.map(FileChannel.MapMode.READ_ONLY, offset,
+                            (long) count * Integer.BYTES, arena);
+                    MemorySegment.copy(region, BIG_ENDIAN_INT, 0, chunk, 0, count);
+                }
+                MergeSort.sort(chunk, metrics);
+
+                Path run = Files.createTempFile(tempDir, "run-", ".bin");
+                runs.add(run);
+                writeRun(chunk, run, outBuffer);
+            }
+        }
+    }
+
+    private static void writeRun(int[] chunk, Path run, ByteBuffer bytes) throws IOException {
+        IntBuffer ints = bytes.clear().asIntBuffer();
+        try (FileChannel out = FileChannel.open(run, StandardOpenOption.WRITE)) {
+            for (int i = 0; i < chunk.length; ) {
+                int count = Math.min(ints.capacity(), chunk.length - i);
+                ints.clear();
+                ints.put(chunk, i, count);
+                bytes.clear().limit(count * Integer.BYTES);
+                while (bytes.hasRemaining()) {
+                    out.write(bytes);
+                }
+                i += count;
+            }
+        }
+    }
+
+    private static void mergeRuns(List<Path> runs, Path output, ByteBuffer outBuffer, Metrics metrics)
+            throws IOException {
+        int k = runs.size();
+        int bufferBytes = Math.max(MIN_RUN_BUFFER_BYTES, MERGE_BUFFER_BUDGET / k) & -Integer.BYTES;
+        RunReader[] readers = new RunReader[k];
+        try {
+            int[] heads = new int[k];
+            boolean[] hasHead = new boolean[k];
+            for (int i = 0; i < k; i++) {
+                readers[i] = new RunReader(runs.get(i), bufferBytes);
+                hasHead[i] = readers[i].hasNext();
+                if (hasHead[i]) heads[i] = readers[i].next();
+            }
+            metrics.recordAllocation((long) k * bufferBytes);
+
+            LoserTree tree = new LoserTree(heads, hasHead, metrics);
+            outBuffer.clear();
+            try (FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                while (!tree.isEmpty()) {
+                    if (!outBuffer.hasRemaining()) {
+                        flush(outBuffer, out);
+                    }
+                    outBuffer.putInt(tree.winnerKey());
+
+                    RunReader reader = readers[tree.winner()];
+                    if (reader.hasNext()) {
+                        tree.replaceWinner(reader.next());
+                    } else {
+                        tree.exhaustWinner();
+                    }
+                }
+                flush(outBuffer, out);
+            }
+        } finally {
+            for (RunReader reader : readers) {
+                if (reader != null) reader.close();
+            }
+        }
+    }
+
+    private static void flush(ByteBuffer buffer, FileChannel out) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    // Sequential reader over one spilled run, refilled in large blocks
+    private static class RunReader implements AutoCloseable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private boolean endOfFile;
+
+        RunReader(Path run, int bufferBytes) throws IOException {
+            this.channel = FileChannel.open(run, StandardOpenOption.READ);
+            this.buffer = ByteBuffer.allocateDirect(bufferBytes);
+            buffer.flip();
+        }
+
+        boolean hasNext() throws IOException {
+            if (buffer.remaining() >= Integer.BYTES) return true;
+            if (endOfFile) return false;
+            buffer.compact();
+            while (buffer.position() < Integer.BYTES || buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    endOfFile = true;
+                    break;
+                }
+            }
+            buffer.flip();
+            return buffer.remaining() >= Integer.BYTES;
+        }
+
+        int next() {
+            return buffer.getInt();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package algorithms;
+
+import metrics.Metrics;
+
+// Merges k sorted int[] runs (shards from parallel workers, external sort runs, ...) in one
+// pass with a LoserTree, using about log2(k) comparisons per output element
+public class KWayMerge {
+
+    public static int[] merge(int[][] runs, Metrics metrics) {
+        if (runs == null) {
+            throw new IllegalArgumentException("Runs must not be null");
+        }
+        long total = 0;
+        for (int[] run : runs) {
+            total += run.length;
+        }
+        if (total > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Merged length exceeds the maximum array size");
+        }
+
+        int[] output = new int[(int) total];
+        metrics.recordAllocation(total * Integer.BYTES);
+        merge(runs, output, 0, metrics);
+        return output;
+    }
+
+    // Writes the merged runs into output starting at offset
+    public static void merge(int[][] runs, int[] output, int offset, Metrics metrics) {
+        int k = runs.length;
+        if (k == 0) return;
+        if (k == 1) {
+            System.arraycopy(runs[0], 0, output, offset, runs[0].length);
+            return;
+        }
+
+        int[] position = new int[k];
+        int[] heads = new int[k];
+        boolean[] hasHead = new boolean[k];
+        for (int i = 0; i < k; i++) {
+            hasHead[i] = runs[i].length > 0;
+            if (hasHead[i]) heads[i] = runs[i][0];
+        }
+        metrics.recordAllocation((long) k * (2 * Integer.BYTES + 1));
+
+        LoserTree tree = new LoserTree(heads, hasHead, metrics);
+        int out = offset;
+        while (!tree.isEmpty()) {
+            int source = tree.winner();
+            output[out++] = tree.winnerKey();
+
+            int[] run = runs[source];
+            int next = ++position[source];
+            if (next < run.length) {
+                tree.replaceWinner(run[next]);
+            } else {
+                tree.exhaustWinner();
+            }
+        }
+    }
+}
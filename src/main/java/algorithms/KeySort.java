@@ -0,0 +1,149 @@
+package algorithms;
+
+import metrics.Metrics;
+import metrics.RecursionTracker;
+import util.ArrayUtils;
+import util.ScratchArena;
+
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+// Stable sorting of object arrays by a primitive key. Keys are extracted once into a
+// primitive array and sorted together with an index permutation, so the sort loop never
+// calls back into the key function or dereferences the records.
+public class KeySort {
+    private static final int INSERTION_SORT_CUTOFF = 7;
+
+    public static <T> void sortByInt(T[] array, ToIntFunction<? super T> key, Metrics metrics) {
+        if (array == null || array.length <= 1) return;
+        long[] keys = ScratchArena.borrowLongs(array.length, metrics);
+        try {
+            for (int i = 0; i < array.length; i++) {
+                keys[i] = key.applyAsInt(array[i]);
+            }
+            sortByKeys(array, keys, metrics);
+        } finally {
+            ScratchArena.release(keys);
+        }
+    }
+
+    public static <T> void sortByLong(T[] array, ToLongFunction<? super T> key, Metrics metrics) {
+        if (array == null || array.length <= 1) return;
+        long[] keys = ScratchArena.borrowLongs(array.length, metrics);
+        try {
+            for (int i = 0; i < array.length; i++) {
+                keys[i] = key.applyAsLong(array[i]);
+            }
+            sortByKeys(array, keys, metrics);
+        } finally {
+            ScratchArena.release(keys);
+        }
+    }
+
+    // Orders keys like Double.compare: -0.0 before 0.0, NaN last
+    public static <T> void sortByDouble(T[] array, ToDoubleFunction<? super T> key, Metrics metrics) {
+        if (array == null || array.length <= 1) return;
+        long[] keys = ScratchArena.borrowLongs(array.length, metrics);
+        try {
+            for (int i = 0; i < array.length; i++) {
+                keys[i] = ArrayUtils.sortableBits(key.applyAsDouble(array[i]));
+            }
+            sortByKeys(array, keys, metrics);
+        } finally {
+            ScratchArena.release(keys);
+        }
+    }
+
+    // keys holds at least array.length entries; the permutation and both merge buffers come
+    // from the scratch arena
+    private static <T> void sortByKeys(T[] array, long[] keys, Metrics metrics) {
+        int n = array.length;
+        int[] index = ScratchArena.borrowInts(n, metrics);
+        long[] keyBuffer = ScratchArena.borrowLongs(n, metrics);
+        int[] indexBuffer = ScratchArena.borrowInts(n, metrics);
+        try {
+            for (int i = 0; i < n; i++) {
+                index[i] = i;
+            }
+            sort(keys, index, 0, n - 1, keyBuffer, indexBuffer, metrics);
+
+            // Apply the permutation once, reading the original order from a snapshot
+            T[] original = array.clone();
+            metrics.incrementAllocations();
+            for (int i = 0; i < n; i++) {
+                array[i] = original[index[i]];
+            }
+        } finally {
+            ScratchArena.release(indexBuffer);
+            ScratchArena.release(keyBuffer);
+            ScratchArena.release(index);
+        }
+    }
+
+    private static void sort(long[] keys, int[] index, int left, int right,
+                             long[] keyBuffer, int[] indexBuffer, Metrics metrics) {
+        if (right - left <= INSERTION_SORT_CUTOFF) {
+            insertionSort(keys, index, left, right, metrics);
+            return;
+        }
+
+        try (RecursionTracker rt = new RecursionTracker(metrics)) {
+            int mid = left + (right - left) / 2;
+            sort(keys, index, left, mid, keyBuffer, indexBuffer, metrics);
+            sort(keys, index, mid + 1, right, keyBuffer, indexBuffer, metrics);
+            merge(keys, index, left, mid, right, keyBuffer, indexBuffer, metrics);
+        }
+    }
+
+    private static void insertionSort(long[] keys, int[] index, int left, int right, Metrics metrics) {
+        for (int i = left + 1; i <= right; i++) {
+            long key = keys[i];
+            int idx = index[i];
+            int j = i - 1;
+
+            while (j >= left) {
+                metrics.incrementComparisons();
+                if (keys[j] > key) {
+                    keys[j + 1] = keys[j];
+                    index[j + 1] = index[j];
+                    j--;
+                } else {
+                    break;
+                }
+            }
+            keys[j + 1] = key;
+            index[j + 1] = idx;
+        }
+    }
+
+    private static void merge(long[] keys, int[] index, int left, int mid, int right,
+                              long[] keyBuffer, int[] indexBuffer, Metrics metrics) {
+        // Halves already in order: nothing to merge
+        metrics.incrementComparisons();
+        if (keys[mid] <= keys[mid + 1]) return;
+
+        int length = right - left + 1;
+        System.arraycopy(keys, left, keyBuffer, left, length);
+        System.arraycopy(index, left, indexBuffer, left, length);
+
+        int i = left, j = mid + 1, k = left;
+
+        while (i <= mid && j <= right) {
+            metrics.incrementComparisons();
+            if (keyBuffer[i] <= keyBuffer[j]) {
+                keys[k] = keyBuffer[i];
+                index[k++] = indexBuffer[i++];
+            } else {
+                keys[k] = keyBuffer[j];
+                index[k++] = indexBuffer[j++];
+            }
+        }
+
+        if (i <= mid) {
+            System.arraycopy(keyBuffer, i, keys, k, mid - i + 1);
+            System.arraycopy(indexBuffer, i, index, k, mid - i + 1);
+        }
+        // Any remaining right-half elements are already in place
+    }
+}
@@ -0,0 +1,366 @@
+package algorithms;
+
+import metrics.Metrics;
+import metrics.RecursionTracker;
+import util.ArrayUtils;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// long[] kernels behind MergeSort, QuickSort and DeterministicSelect.
+// Generated from src/main/templates/Kernels.java.template by codegen.KernelGenerator (test
+// sources), which writes one class per primitive; edit the template and rerun the generator
+final class LongKernels {
+    // Consecutive wins that switch a merge to galloping
+    static final int MIN_GALLOP = 7;
+    // Elements scanned per side before the misplaced ones are swapped in bulk
+    static final int PARTITION_BLOCK = 128;
+
+    private LongKernels() {
+    }
+
+    // Top-down merge sort of [left, right]
+    static void mergeSort(long[] array, int left, int right, long[] buffer, int insertionSortCutoff,
+                          Metrics metrics) {
+        if (right - left <= insertionSortCutoff) {
+            insertionSort(array, left, right, metrics);
+            return;
+        }
+
+        try (RecursionTracker rt = new RecursionTracker(metrics)) {
+            int mid = left + (right - left) / 2;
+            mergeSort(array, left, mid, buffer, insertionSortCutoff, metrics);
+            mergeSort(array, mid + 1, right, buffer, insertionSortCutoff, metrics);
+            merge(array, left, mid, right, buffer, metrics);
+        }
+    }
+
+    static void insertionSort(long[] array, int left, int right, Metrics metrics) {
+        insertionSort(array, left, right, left + 1, metrics);
+    }
+
+    // Insertion sort of [left, right] where [left, sortedEnd) is already in order
+    static void insertionSort(long[] array, int left, int right, int sortedEnd, Metrics metrics) {
+        for (int i = sortedEnd; i <= right; i++) {
+            long key = array[i];
+            int j = i - 1;
+
+            while (j >= left) {
+                metrics.incrementComparisons();
+                if (array[j] > key) {
+                    array[j + 1] = array[j];
+                    j--;
+                } else {
+                    break;
+                }
+            }
+            array[j + 1] = key;
+        }
+    }
+
+    // Merges the sorted halves [left, mid] and [mid + 1, right] through buffer
+    static void merge(long[] array, int left, int mid, int right, long[] buffer, Metrics metrics) {
+        // Halves already in order: nothing to merge
+        metrics.incrementComparisons();
+        if (array[mid] <= array[mid + 1]) return;
+
+        // Left elements <= the first right element and right elements >= the last left
+        // element are already in their final positions
+        int start = left + gallopRight(array[mid + 1], array, left, mid - left + 1, metrics);
+        int end = mid + gallopLeft(array[mid], array, mid + 1, right - mid, metrics);
+
+        // Copy to buffer
+        System.arraycopy(array, start, buffer, start, end - start + 1);
+        metrics.incrementMoves(2 * (end - start + 1));
+
+        gallopingMerge(buffer, start, mid + 1, buffer, mid + 1, end + 1, array, start, MIN_GALLOP, metrics);
+    }
+
+    // Merges src1[cursor1, end1) and src2[cursor2, end2) into dest starting at k, taking
+    // src1 first on ties. Merges one element at a time until one side wins minGallop times
+    // in a row, then gallops ahead with exponential search. dest may be src2 if k trails cursor2.
+    // Returns the adapted gallop threshold.
+    static int gallopingMerge(long[] src1, int cursor1, int end1, long[] src2, int cursor2, int end2,
+                              long[] dest, int k, int minGallop, Metrics metrics) {
+        outer:
+        while (true) {
+            int count1 = 0, count2 = 0;
+
+            do {
+                metrics.incrementComparisons();
+                if (src2[cursor2] < src1[cursor1]) {
+                    dest[k++] = src2[cursor2++];
+                    count2++;
+                    count1 = 0;
+                    if (cursor2 == end2) break outer;
+                } else {
+                    dest[k++] = src1[cursor1++];
+                    count1++;
+                    count2 = 0;
+                    if (cursor1 == end1) break outer;
+                }
+            } while ((count1 | count2) < minGallop);
+
+            do {
+                count1 = gallopRight(src2[cursor2], src1, cursor1, end1 - cursor1, metrics);
+                if (count1 != 0) {
+                    System.arraycopy(src1, cursor1, dest, k, count1);
+                    k += count1;
+                    cursor1 += count1;
+                    if (cursor1 == end1) break outer;
+                }
+                dest[k++] = src2[cursor2++];
+                if (cursor2 == end2) break outer;
+
+                count2 = gallopLeft(src1[cursor1], src2, cursor2, end2 - cursor2, metrics);
+                if (count2 != 0) {
+                    System.arraycopy(src2, cursor2, dest, k, count2);
+                    k += count2;
+                    cursor2 += count2;
+                    if (cursor2 == end2) break outer;
+                }
+                dest[k++] = src1[cursor1++];
+                if (cursor1 == end1) break outer;
+                minGallop--;
+            } while (count1 >= MIN_GALLOP || count2 >= MIN_GALLOP);
+
+            if (minGallop < 0) minGallop = 0;
+            minGallop += 2; // Penalize leaving gallop mode
+        }
+
+        if (cursor1 < end1) {
+            System.arraycopy(src1, cursor1, dest, k, end1 - cursor1);
+        }
+        // When merging in place the rest of src2 already sits at its final position
+        if (cursor2 < end2 && (src2 != dest || cursor2 != k)) {
+            System.arraycopy(src2, cursor2, dest, k, end2 - cursor2);
+        }
+        return Math.max(1, minGallop);
+    }
+
+    // Number of elements in array[base, base+length) strictly less than key,
+    // found by exponential search followed by binary search
+    static int gallopLeft(long key, long[] array, int base, int length, Metrics metrics) {
+        int lastOfs = 0, ofs = 1;
+        while (ofs <= length) {
+            metrics.incrementComparisons();
+            if (array[base + ofs - 1] >= key) break;
+            lastOfs = ofs;
+            ofs = (ofs << 1) + 1;
+            if (ofs <= 0) ofs = length + 1; // int overflow
+        }
+        if (ofs > length) ofs = length;
+
+        // array[base + lastOfs - 1] < key, and ofs is length or array[base + ofs - 1] >= key
+        while (lastOfs < ofs) {
+            int m = (lastOfs + ofs) >>> 1;
+            metrics.incrementComparisons();
+            if (array[base + m] < key) {
+                lastOfs = m + 1;
+            } else {
+                ofs = m;
+            }
+        }
+        return ofs;
+    }
+
+    // Number of elements in array[base, base+length) less than or equal to key
+    static int gallopRight(long key, long[] array, int base, int length, Metrics metrics) {
+        int lastOfs = 0, ofs = 1;
+        while (ofs <= length) {
+            metrics.incrementComparisons();
+            if (array[base + ofs - 1] > key) break;
+            lastOfs = ofs;
+            ofs = (ofs << 1) + 1;
+            if (ofs <= 0) ofs = length + 1; // int overflow
+        }
+        if (ofs > length) ofs = length;
+
+        while (lastOfs < ofs) {
+            int m = (lastOfs + ofs) >>> 1;
+            metrics.incrementComparisons();
+            if (array[base + m] <= key) {
+                lastOfs = m + 1;
+            } else {
+                ofs = m;
+            }
+        }
+        return ofs;
+    }
+
+    // Quicksort of [left, right] with random pivots; ThreadLocalRandom because the parallel
+    // modes run this on every worker
+    static void quickSort(long[] array, int left, int right, Metrics metrics) {
+        while (left < right) {
+            try (RecursionTracker rt = new RecursionTracker(metrics)) {
+                int pivotIndex = partition(array, left, right, randomIndex(left, right), metrics);
+
+                // Recurse on smaller partition first to bound stack depth
+                if (pivotIndex - left < right - pivotIndex) {
+                    quickSort(array, left, pivotIndex - 1, metrics);
+                    left = pivotIndex + 1;
+                } else {
+                    quickSort(array, pivotIndex + 1, right, metrics);
+                    right = pivotIndex - 1;
+                }
+            }
+        }
+    }
+
+    // quickSort with the branch-free block partition behind QuickSort.sortBlockPartition
+    static void blockQuickSort(long[] array, int left, int right,
+                               int[] offsetsLeft, int[] offsetsRight, Metrics metrics) {
+        while (left < right) {
+            try (RecursionTracker rt = new RecursionTracker(metrics)) {
+                int pivotIndex = blockPartition(array, left, right, offsetsLeft, offsetsRight, metrics);
+
+                if (pivotIndex - left < right - pivotIndex) {
+                    blockQuickSort(array, left, pivotIndex - 1, offsetsLeft, offsetsRight, metrics);
+                    left = pivotIndex + 1;
+                } else {
+                    blockQuickSort(array, pivotIndex + 1, right, offsetsLeft, offsetsRight, metrics);
+                    right = pivotIndex - 1;
+                }
+            }
+        }
+    }
+
+    static int randomIndex(int left, int right) {
+        return left + ThreadLocalRandom.current().nextInt(right - left + 1);
+    }
+
+    // Lomuto partition of [left, right] around array[pivotIndex]; returns the pivot's final index
+    static int partition(long[] array, int left, int right, int pivotIndex, Metrics metrics) {
+        long pivotValue = array[pivotIndex];
+        ArrayUtils.swap(array, pivotIndex, right);
+
+        int storeIndex = left;
+        for (int i = left; i < right; i++) {
+            metrics.incrementComparisons();
+            if (array[i] < pivotValue) {
+                ArrayUtils.swap(array, storeIndex, i);
+                storeIndex++;
+            }
+        }
+
+        ArrayUtils.swap(array, storeIndex, right);
+        return storeIndex;
+    }
+
+    static int blockPartition(long[] array, int left, int right,
+                              int[] offsetsLeft, int[] offsetsRight, Metrics metrics) {
+        int pivotIndex = randomIndex(left, right);
+        long pivotValue = array[pivotIndex];
+        ArrayUtils.swap(array, pivotIndex, right);
+        metrics.incrementComparisons(right - left);
+
+        // [lo, hi] is still unpartitioned; everything before lo is < pivot, after hi is >= pivot
+        int lo = left, hi = right - 1;
+        int countLeft = 0, countRight = 0, startLeft = 0, startRight = 0;
+        while (hi - lo + 1 > 2 * PARTITION_BLOCK) {
+            if (countLeft == 0) {
+                startLeft = 0;
+                for (int i = 0; i < PARTITION_BLOCK; i++) {
+                    offsetsLeft[countLeft] = i;
+                    countLeft += array[lo + i] >= pivotValue ? 1 : 0;
+                }
+            }
+            if (countRight == 0) {
+                startRight = 0;
+                for (int i = 0; i < PARTITION_BLOCK; i++) {
+                    offsetsRight[countRight] = i;
+                    countRight += array[hi - i] < pivotValue ? 1 : 0;
+                }
+            }
+            int pairs = Math.min(countLeft, countRight);
+            for (int j = 0; j < pairs; j++) {
+                ArrayUtils.swap(array, lo + offsetsLeft[startLeft + j], hi - offsetsRight[startRight + j]);
+            }
+            countLeft -= pairs;
+            countRight -= pairs;
+            startLeft += pairs;
+            startRight += pairs;
+            if (countLeft == 0) lo += PARTITION_BLOCK;
+            if (countRight == 0) hi -= PARTITION_BLOCK;
+        }
+
+        // Branchless Lomuto over the remaining window (at most a few blocks): swap
+        // unconditionally and advance the boundary by the comparison result
+        int storeIndex = lo;
+        for (int i = lo; i <= hi; i++) {
+            long value = array[i];
+            array[i] = array[storeIndex];
+            array[storeIndex] = value;
+            storeIndex += value < pivotValue ? 1 : 0;
+        }
+
+        ArrayUtils.swap(array, storeIndex, right);
+        return storeIndex;
+    }
+
+    // k-th smallest of [left, right] by median of medians; k is an absolute index
+    static long select(long[] array, int left, int right, int k, Metrics metrics) {
+        if (left == right) return array[left];
+
+        try (RecursionTracker rt = new RecursionTracker(metrics)) {
+            int pivotIndex = medianOfMedians(array, left, right, metrics);
+            pivotIndex = partition(array, left, right, pivotIndex, metrics);
+
+            if (k == pivotIndex) {
+                return array[k];
+            } else if (k < pivotIndex) {
+                return select(array, left, pivotIndex - 1, k, metrics);
+            }
+            // Fat pivot: gather the keys equal to the pivot next to it, so duplicate-heavy
+            // ranges finish as soon as k lands in the equal band
+            int equalEnd = partitionEqual(array, pivotIndex, right, metrics);
+            if (k <= equalEnd) {
+                return array[k];
+            }
+            return select(array, equalEnd + 1, right, k, metrics);
+        }
+    }
+
+    static int medianOfMedians(long[] array, int left, int right, Metrics metrics) {
+        int n = right - left + 1;
+        if (n <= 5) {
+            return medianOfFive(array, left, right, metrics);
+        }
+
+        // Recursively find median of medians; select leaves it at its rank position
+        int numGroups = moveGroupMedians(array, left, right, metrics);
+        int mid = left + numGroups / 2;
+        select(array, left, left + numGroups - 1, mid, metrics);
+        return mid;
+    }
+
+    // Groups [left, right] into fives and moves each group's median to the front of the range;
+    // returns the number of groups
+    static int moveGroupMedians(long[] array, int left, int right, Metrics metrics) {
+        int numGroups = (right - left + 5) / 5;
+        for (int i = 0; i < numGroups; i++) {
+            int groupLeft = left + i * 5;
+            int groupRight = Math.min(groupLeft + 4, right);
+            ArrayUtils.swap(array, left + i, medianOfFive(array, groupLeft, groupRight, metrics));
+        }
+        return numGroups;
+    }
+
+    static int medianOfFive(long[] array, int left, int right, Metrics metrics) {
+        insertionSort(array, left, right, metrics);
+        return left + (right - left) / 2;
+    }
+
+    // array[pivotIndex] is the pivot and everything after it is >= pivot. Moves the keys
+    // equal to the pivot directly behind it and returns the last index of that band.
+    static int partitionEqual(long[] array, int pivotIndex, int right, Metrics metrics) {
+        long pivotValue = array[pivotIndex];
+        int equalEnd = pivotIndex;
+        for (int i = pivotIndex + 1; i <= right; i++) {
+            metrics.incrementComparisons();
+            if (array[i] == pivotValue) {
+                ArrayUtils.swap(array, ++equalEnd, i);
+            }
+        }
+        return equalEnd;
+    }
+}
@@ -0,0 +1,97 @@
+package algorithms;
+
+import metrics.Metrics;
+
+// Tournament tree over the current heads of k sorted sources. Each internal node keeps the
+// loser of the match played there and tree[0] the overall winner, so advancing the winner
+// replays a single leaf-to-root path: about log2(k) comparisons per output element.
+// Ties go to the lower source index, which keeps merges stable.
+public class LoserTree {
+    private final int k;
+    private final int[] keys;
+    private final boolean[] exhausted;
+    private final int[] tree;
+    private final Metrics metrics;
+
+    public LoserTree(int[] heads, boolean[] hasHead, Metrics metrics) {
+        if (heads.length == 0 || heads.length != hasHead.length) {
+            throw new IllegalArgumentException("Need at least one source and a presence flag per head");
+        }
+        this.k = heads.length;
+        this.keys = heads.clone();
+        this.exhausted = new boolean[k];
+        for (int i = 0; i < k; i++) {
+            exhausted[i] = !hasHead[i];
+        }
+        this.tree = new int[k];
+        this.metrics = metrics;
+        build();
+    }
+
+    public boolean isEmpty() {
+        return exhausted[tree[0]];
+    }
+
+    // Source index holding the smallest head
+    public int winner() {
+        return tree[0];
+    }
+
+    public int winnerKey() {
+        return keys[tree[0]];
+    }
+
+    // The winning source advanced to its next element
+    public void replaceWinner(int key) {
+        keys[tree[0]] = key;
+        replay();
+    }
+
+    // The winning source has no elements left
+    public void exhaustWinner() {
+        exhausted[tree[0]] = true;
+        replay();
+    }
+
+    private void build() {
+        if (k == 1) {
+            tree[0] = 0;
+            return;
+        }
+        // Leaves live at k..2k-1, internal nodes at 1..k-1
+        int[] winners = new int[2 * k];
+        for (int i = 0; i < k; i++) {
+            winners[k + i] = i;
+        }
+        for (int node = k - 1; node >= 1; node--) {
+            int left = winners[2 * node], right = winners[2 * node + 1];
+            if (beats(left, right)) {
+                winners[node] = left;
+                tree[node] = right;
+            } else {
+                winners[node] = right;
+                tree[node] = left;
+            }
+        }
+        tree[0] = winners[1];
+    }
+
+    private void replay() {
+        int winner = tree[0];
+        for (int node = (winner + k) >> 1; node >= 1; node >>= 1) {
+            if (beats(tree[node], winner)) {
+                int temp = tree[node];
+                tree[node] = winner;
+                winner = temp;
+            }
+        }
+        tree[0] = winner;
+    }
+
+    private boolean beats(int a, int b) {
+        if (exhausted[a]) return false;
+        if (exhausted[b]) return true;
+        metrics.incrementComparisons();
+        return keys[a] < keys[b] || (keys[a] == keys[b] && a < b);
+    }
+}
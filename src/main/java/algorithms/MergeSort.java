@@ -1,66 +1,591 @@
 package algorithms;
 
+import divideconquer.DivideAndConquer;
+import divideconquer.DivideAndConquerRunner;
+import divideconquer.Range;
 import metrics.Metrics;
 import metrics.RecursionTracker;
+import util.ArrayUtils;
+import util.ScratchArena;
+import util.TuningProfile;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 public class MergeSort {
-    private static final int INSERTION_SORT_CUTOFF = 7;
+    // Both come from the tuning profile when one has been calibrated for this machine
+    private static final int INSERTION_SORT_CUTOFF =
+            TuningProfile.getInt(TuningProfile.MERGE_SORT_INSERTION_CUTOFF, 7, 1);
+    // Ranges smaller than this are sorted sequentially by a single task
+    private static final int PARALLEL_GRAIN =
+            TuningProfile.getInt(TuningProfile.MERGE_SORT_PARALLEL_GRAIN, 1 << 13, 16);
+    // Natural merge: shortest run worth merging
+    private static final int MIN_MERGE = 32;
+    // Bounds the pending-run stack for any int-sized array under the run length invariants
+    private static final int MAX_PENDING_RUNS = 49;
+    // sortIterative: each split nets two frames of two ints, for at most 31 levels, plus the root
+    private static final int WORK_STACK_SIZE = 4 * Integer.SIZE + 2;
 
     public static void sort(int[] array, Metrics metrics) {
         if (array == null || array.length <= 1) return;
-        int[] buffer = new int[array.length];
-        metrics.incrementAllocations();
-        sort(array, 0, array.length - 1, buffer, metrics);
+        int[] buffer = ScratchArena.borrowInts(array.length, metrics);
+        try {
+            sort(array, buffer, INSERTION_SORT_CUTOFF, metrics);
+        } finally {
+            ScratchArena.release(buffer);
+        }
+    }
+
+    // Caller-supplied scratch for callers that sort many arrays and reuse one buffer;
+    // only its first array.length slots are used
+    public static void sort(int[] array, int[] buffer, Metrics metrics) {
+        if (array == null || array.length <= 1) return;
+        if (buffer.length < array.length) {
+            throw new IllegalArgumentException("Buffer must hold at least " + array.length + " elements");
+        }
+        sort(array, buffer, INSERTION_SORT_CUTOFF, metrics);
+    }
+
+    // Top-down sort driven by a primitive work stack instead of recursion, for callers on small
+    // thread stacks such as virtual threads. A frame is a range to sort, or, stored as (left, ~right),
+    // a merge still owed once both halves are done. Depth is counted like the recursion: a level
+    // is entered when a range is split and left after its merge
+    public static void sortIterative(int[] array, Metrics metrics) {
+        if (array == null || array.length <= 1) return;
+        int[] buffer = ScratchArena.borrowInts(array.length, metrics);
+        int[] stack = new int[WORK_STACK_SIZE];
+        metrics.recordAllocation((long) WORK_STACK_SIZE * Integer.BYTES);
+
+        try {
+            stack[0] = 0;
+            stack[1] = array.length - 1;
+            int top = 2;
+            while (top > 0) {
+                int right = stack[--top];
+                int left = stack[--top];
+                if (right < 0) {
+                    right = ~right;
+                    IntKernels.merge(array, left, left + (right - left) / 2, right, buffer, metrics);
+                    metrics.exitRecursion();
+                    continue;
+                }
+                if (right - left <= INSERTION_SORT_CUTOFF) {
+                    IntKernels.insertionSort(array, left, right, metrics);
+                    continue;
+                }
+
+                metrics.enterRecursion();
+                int mid = left + (right - left) / 2;
+                stack[top++] = left;
+                stack[top++] = ~right;
+                stack[top++] = mid + 1;
+                stack[top++] = right;
+                stack[top++] = left;
+                stack[top++] = mid;
+            }
+        } finally {
+            ScratchArena.release(buffer);
+        }
+    }
+
+    public static void sort(long[] array, Metrics metrics) {
+        if (array == null || array.length <= 1) return;
+        long[] buffer = ScratchArena.borrowLongs(array.length, metrics);
+        try {
+            LongKernels.mergeSort(array, 0, array.length - 1, buffer, INSERTION_SORT_CUTOFF, metrics);
+        } finally {
+            ScratchArena.release(buffer);
+        }
+    }
+
+    // Floating-point values are sorted as order-preserving bit patterns by the integral
+    // kernels, which gives Double.compare order (-0.0 before 0.0, NaN last)
+    public static void sort(double[] array, Metrics metrics) {
+        if (array == null || array.length <= 1) return;
+        long[] bits = ArrayUtils.toSortableBits(array);
+        metrics.recordAllocation((long) bits.length * Long.BYTES);
+        sort(bits, metrics);
+        ArrayUtils.fromSortableBits(bits, array);
+    }
+
+    public static void sort(float[] array, Metrics metrics) {
+        if (array == null || array.length <= 1) return;
+        int[] bits = ArrayUtils.toSortableBits(array);
+        metrics.recordAllocation((long) bits.length * Integer.BYTES);
+        sort(bits, metrics);
+        ArrayUtils.fromSortableBits(bits, array);
+    }
+
+    // Off-heap variant: sorts the segment as native-order ints with long indices, so it is
+    // not limited to 2^31 elements; the scratch buffer is off-heap as well
+    public static void sort(MemorySegment segment, Metrics metrics) {
+        if (segment == null) {
+            throw new IllegalArgumentException("Segment must not be null");
+        }
+        if (segment.byteSize() % Integer.BYTES != 0) {
+            throw new IllegalArgumentException("Segment size must be a multiple of " + Integer.BYTES + " bytes");
+        }
+        long n = segment.byteSize() / Integer.BYTES;
+        if (n <= 1) return;
+
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment buffer = arena.allocate(segment.byteSize(), Integer.BYTES);
+            metrics.recordAllocation(segment.byteSize());
+            sort(segment, 0, n - 1, buffer, metrics);
+        }
+    }
+
+    public static void parallelSort(int[] array, Metrics metrics) {
+        parallelSort(array, metrics, ForkJoinPool.commonPool());
+    }
+
+    public static void parallelSort(int[] array, Metrics metrics, ForkJoinPool pool) {
+        parallelSort(array, PARALLEL_GRAIN, metrics, pool);
+    }
+
+    // Entry points with an explicit threshold, for the calibrator
+    static void parallelSort(int[] array, int grain, Metrics metrics, ForkJoinPool pool) {
+        if (array == null || array.length <= 1) return;
+        int[] buffer = ScratchArena.borrowInts(array.length, metrics);
+        try {
+            new DivideAndConquerRunner<>(new Steps(array, buffer, INSERTION_SORT_CUTOFF), grain)
+                    .solveParallel(new Range(0, array.length - 1), metrics, pool);
+        } finally {
+            ScratchArena.release(buffer);
+        }
+    }
+
+    // Run-detecting mode: merges existing ascending/descending runs, so presorted input costs O(n)
+    public static void naturalSort(int[] array, Metrics metrics) {
+        if (array == null || array.length <= 1) return;
+        int n = array.length;
+        int minRun = minRunLength(n);
+        RunStack runs = new RunStack(array, metrics);
+
+        int lo = 0;
+        while (lo < n) {
+            int runLength = countRunAndMakeAscending(array, lo, n, metrics);
+            // Extend short runs so merges stay balanced
+            if (runLength < minRun) {
+                int forced = Math.min(minRun, n - lo);
+                IntKernels.insertionSort(array, lo, lo + forced - 1, lo + runLength, metrics);
+                runLength = forced;
+            }
+            runs.push(lo, runLength);
+            runs.mergeCollapse();
+            lo += runLength;
+        }
+        runs.mergeForceCollapse();
+    }
+
+    // Iterative mode: each pass merges runs from one array into the other and the roles swap,
+    // so elements are written once per pass instead of copied to the buffer and back
+    public static void sortBottomUp(int[] array, Metrics metrics) {
+        if (array == null || array.length <= 1) return;
+        int n = array.length;
+
+        for (int lo = 0; lo < n; lo += INSERTION_SORT_CUTOFF) {
+            IntKernels.insertionSort(array, lo, Math.min(lo + INSERTION_SORT_CUTOFF, n) - 1, metrics);
+        }
+        if (n <= INSERTION_SORT_CUTOFF) return;
+
+        int[] buffer = ScratchArena.borrowInts(n, metrics);
+        try {
+            int[] src = array, dst = buffer;
+            for (int width = INSERTION_SORT_CUTOFF; width < n; width *= 2) {
+                for (int lo = 0; lo < n; lo += 2 * width) {
+                    int mid = Math.min(lo + width, n);
+                    int hi = Math.min(lo + 2 * width, n);
+                    mergeInto(src, lo, mid, hi, dst, metrics);
+                }
+                int[] temp = src;
+                src = dst;
+                dst = temp;
+            }
+
+            // Odd number of passes: the result ended up in the buffer
+            if (src != array) {
+                System.arraycopy(src, 0, array, 0, n);
+                metrics.incrementMoves(n);
+            }
+        } finally {
+            ScratchArena.release(buffer);
+        }
+    }
+
+    // Low-memory mode: a stable merge sort with an O(sqrt n) scratch buffer. Merges whose
+    // shorter run does not fit the buffer are split around a rotation until it does.
+    public static void sortLowMemory(int[] array, Metrics metrics) {
+        if (array == null || array.length <= 1) return;
+        int n = array.length;
+        int[] buffer = new int[Math.min(n, Math.max(INSERTION_SORT_CUTOFF + 1, (int) Math.sqrt(n)))];
+        metrics.recordAllocation((long) buffer.length * Integer.BYTES);
+        sortLowMemory(array, 0, n - 1, buffer, metrics);
+    }
+
+    static void sort(int[] array, int insertionSortCutoff, Metrics metrics) {
+        if (array == null || array.length <= 1) return;
+        int[] buffer = ScratchArena.borrowInts(array.length, metrics);
+        try {
+            sort(array, buffer, insertionSortCutoff, metrics);
+        } finally {
+            ScratchArena.release(buffer);
+        }
+    }
+
+    // Sequential sorts go through the same runner as parallelSort; ranges up to the grain
+    // go to the recursive kernel
+    private static void sort(int[] array, int[] buffer, int insertionSortCutoff, Metrics metrics) {
+        new DivideAndConquerRunner<>(new Steps(array, buffer, insertionSortCutoff), PARALLEL_GRAIN)
+                .solve(new Range(0, array.length - 1), metrics);
     }
 
-    private static void sort(int[] array, int left, int right, int[] buffer, Metrics metrics) {
+    // Package-private range sort: SampleSort sorts its buckets with it
+    static void sort(int[] array, int left, int right, int[] buffer, Metrics metrics) {
+        IntKernels.mergeSort(array, left, right, buffer, INSERTION_SORT_CUTOFF, metrics);
+    }
+
+    private static void sortLowMemory(int[] array, int left, int right, int[] buffer, Metrics metrics) {
         if (right - left <= INSERTION_SORT_CUTOFF) {
-            insertionSort(array, left, right, metrics);
+            IntKernels.insertionSort(array, left, right, metrics);
             return;
         }
 
         try (RecursionTracker rt = new RecursionTracker(metrics)) {
             int mid = left + (right - left) / 2;
+            sortLowMemory(array, left, mid, buffer, metrics);
+            sortLowMemory(array, mid + 1, right, buffer, metrics);
+            mergeLowMemory(array, left, mid + 1, right + 1, buffer, metrics);
+        }
+    }
+
+    // Stable merge of array[lo, mid) and array[mid, hi) using a buffer that may be
+    // shorter than both runs
+    private static void mergeLowMemory(int[] array, int lo, int mid, int hi, int[] buffer, Metrics metrics) {
+        if (lo >= mid || mid >= hi) return;
+        metrics.incrementComparisons();
+        if (array[mid - 1] <= array[mid]) return;
+
+        lo += IntKernels.gallopRight(array[mid], array, lo, mid - lo, metrics);
+        hi = mid + IntKernels.gallopLeft(array[mid - 1], array, mid, hi - mid, metrics);
+        int length1 = mid - lo, length2 = hi - mid;
+
+        if (length1 <= buffer.length) {
+            System.arraycopy(array, lo, buffer, 0, length1);
+            metrics.incrementMoves(2 * length1 + length2);
+            IntKernels.gallopingMerge(buffer, 0, length1, array, mid, hi, array, lo, IntKernels.MIN_GALLOP, metrics);
+        } else if (length2 <= buffer.length) {
+            System.arraycopy(array, mid, buffer, 0, length2);
+            metrics.incrementMoves(2 * length2 + length1);
+            mergeBackward(array, lo, mid, hi, buffer, metrics);
+        } else {
+            // Split the longer run in half, find the matching cut in the other run,
+            // and rotate the middle so both halves become independent smaller merges
+            int cut1, cut2;
+            if (length1 > length2) {
+                cut1 = lo + length1 / 2;
+                cut2 = mid + IntKernels.gallopLeft(array[cut1], array, mid, length2, metrics);
+            } else {
+                cut2 = mid + length2 / 2;
+                cut1 = lo + IntKernels.gallopRight(array[cut2], array, lo, length1, metrics);
+            }
+            int newMid = rotate(array, cut1, mid, cut2, buffer, metrics);
+
+            try (RecursionTracker rt = new RecursionTracker(metrics)) {
+                mergeLowMemory(array, lo, cut1, newMid, buffer, metrics);
+                mergeLowMemory(array, newMid, cut2, hi, buffer, metrics);
+            }
+        }
+    }
+
+    // Merges array[lo, mid) with the copy of array[mid, hi) held in buffer, filling from the right
+    private static void mergeBackward(int[] array, int lo, int mid, int hi, int[] buffer, Metrics metrics) {
+        int i = mid - 1, j = hi - mid - 1, k = hi - 1;
+
+        while (i >= lo && j >= 0) {
+            metrics.incrementComparisons();
+            // Ties take the right run first so equal keys keep their order
+            if (buffer[j] >= array[i]) {
+                array[k--] = buffer[j--];
+            } else {
+                array[k--] = array[i--];
+            }
+        }
+
+        if (j >= 0) System.arraycopy(buffer, 0, array, lo, j + 1);
+    }
+
+    // Swaps the blocks array[first, middle) and array[middle, last); returns the new boundary
+    private static int rotate(int[] array, int first, int middle, int last, int[] buffer, Metrics metrics) {
+        int length1 = middle - first, length2 = last - middle;
+        if (length1 == 0 || length2 == 0) return first + length2;
+
+        if (length2 <= buffer.length && length2 <= length1) {
+            System.arraycopy(array, middle, buffer, 0, length2);
+            System.arraycopy(array, first, array, first + length2, length1);
+            System.arraycopy(buffer, 0, array, first, length2);
+            metrics.incrementMoves(2 * length2 + length1);
+        } else if (length1 <= buffer.length) {
+            System.arraycopy(array, first, buffer, 0, length1);
+            System.arraycopy(array, middle, array, first, length2);
+            System.arraycopy(buffer, 0, array, first + length2, length1);
+            metrics.incrementMoves(2 * length1 + length2);
+        } else {
+            reverse(array, first, middle - 1);
+            reverse(array, middle, last - 1);
+            reverse(array, first, last - 1);
+            metrics.incrementMoves(2 * (length1 + length2));
+        }
+        return first + length2;
+    }
+
+    private static void sort(MemorySegment array, long left, long right, MemorySegment buffer, Metrics metrics) {
+        if (right - left <= INSERTION_SORT_CUTOFF) {
+            insertionSort(array, left, right, metrics);
+            return;
+        }
+
+        try (RecursionTracker rt = new RecursionTracker(metrics)) {
+            long mid = left + (right - left) / 2;
             sort(array, left, mid, buffer, metrics);
             sort(array, mid + 1, right, buffer, metrics);
             merge(array, left, mid, right, buffer, metrics);
         }
     }
 
-    private static void insertionSort(int[] array, int left, int right, Metrics metrics) {
-        for (int i = left + 1; i <= right; i++) {
-            int key = array[i];
-            int j = i - 1;
+    private static void insertionSort(MemorySegment array, long left, long right, Metrics metrics) {
+        for (long i = left + 1; i <= right; i++) {
+            int key = array.getAtIndex(ValueLayout.JAVA_INT, i);
+            long j = i - 1;
 
             while (j >= left) {
                 metrics.incrementComparisons();
-                if (array[j] > key) {
-                    array[j + 1] = array[j];
+                int value = array.getAtIndex(ValueLayout.JAVA_INT, j);
+                if (value > key) {
+                    array.setAtIndex(ValueLayout.JAVA_INT, j + 1, value);
                     j--;
                 } else {
                     break;
                 }
             }
-            array[j + 1] = key;
+            array.setAtIndex(ValueLayout.JAVA_INT, j + 1, key);
         }
     }
 
-    private static void merge(int[] array, int left, int mid, int right, int[] buffer, Metrics metrics) {
-        // Copy to buffer
-        System.arraycopy(array, left, buffer, left, right - left + 1);
+    private static void merge(MemorySegment array, long left, long mid, long right,
+                              MemorySegment buffer, Metrics metrics) {
+        // Halves already in order: nothing to merge
+        metrics.incrementComparisons();
+        if (array.getAtIndex(ValueLayout.JAVA_INT, mid) <= array.getAtIndex(ValueLayout.JAVA_INT, mid + 1)) return;
+
+        long offset = left * Integer.BYTES;
+        MemorySegment.copy(array, offset, buffer, offset, (right - left + 1) * Integer.BYTES);
+
+        long i = left, j = mid + 1, k = left;
+        int a = buffer.getAtIndex(ValueLayout.JAVA_INT, i);
+        int b = buffer.getAtIndex(ValueLayout.JAVA_INT, j);
 
-        int i = left, j = mid + 1, k = left;
+        while (true) {
+            metrics.incrementComparisons();
+            if (a <= b) {
+                array.setAtIndex(ValueLayout.JAVA_INT, k++, a);
+                if (++i > mid) break;
+                a = buffer.getAtIndex(ValueLayout.JAVA_INT, i);
+            } else {
+                array.setAtIndex(ValueLayout.JAVA_INT, k++, b);
+                if (++j > right) break;
+                b = buffer.getAtIndex(ValueLayout.JAVA_INT, j);
+            }
+        }
+
+        // Only a left-half tail needs moving; a right-half tail is already in place
+        if (i <= mid) {
+            MemorySegment.copy(buffer, i * Integer.BYTES, array, k * Integer.BYTES, (mid - i + 1) * Integer.BYTES);
+        }
+    }
+
+    // Merges src[lo, mid) and src[mid, hi) into dst[lo, hi)
+    private static void mergeInto(int[] src, int lo, int mid, int hi, int[] dst, Metrics metrics) {
+        int i = lo, j = mid, k = lo;
 
-        while (i <= mid && j <= right) {
+        while (i < mid && j < hi) {
             metrics.incrementComparisons();
-            if (buffer[i] <= buffer[j]) {
-                array[k++] = buffer[i++];
+            if (src[i] <= src[j]) {
+                dst[k++] = src[i++];
             } else {
-                array[k++] = buffer[j++];
+                dst[k++] = src[j++];
+            }
+        }
+
+        if (i < mid) System.arraycopy(src, i, dst, k, mid - i);
+        if (j < hi) System.arraycopy(src, j, dst, k, hi - j);
+        metrics.incrementMoves(hi - lo);
+    }
+
+    private static int minRunLength(int n) {
+        int r = 0;
+        while (n >= MIN_MERGE) {
+            r |= n & 1;
+            n >>= 1;
+        }
+        return n + r;
+    }
+
+    // Returns the length of the run starting at lo, reversing it if strictly descending
+    private static int countRunAndMakeAscending(int[] array, int lo, int hi, Metrics metrics) {
+        int runHi = lo + 1;
+        if (runHi == hi) return 1;
+
+        metrics.incrementComparisons();
+        if (array[runHi++] < array[lo]) {
+            // Strictly descending only, so reversing keeps equal keys stable
+            while (runHi < hi) {
+                metrics.incrementComparisons();
+                if (array[runHi] >= array[runHi - 1]) break;
+                runHi++;
+            }
+            reverse(array, lo, runHi - 1);
+        } else {
+            while (runHi < hi) {
+                metrics.incrementComparisons();
+                if (array[runHi] < array[runHi - 1]) break;
+                runHi++;
             }
         }
+        return runHi - lo;
+    }
+
+    private static void reverse(int[] array, int left, int right) {
+        while (left < right) {
+            int temp = array[left];
+            array[left++] = array[right];
+            array[right--] = temp;
+        }
+    }
+
+    // Pending runs of naturalSort, merged so that run lengths shrink at least as fast as Fibonacci numbers
+    private static class RunStack {
+        private final int[] array;
+        private final Metrics metrics;
+        private final int[] runBase = new int[MAX_PENDING_RUNS];
+        private final int[] runLength = new int[MAX_PENDING_RUNS];
+        private int size;
+        private int[] buffer;
+        private int minGallop = IntKernels.MIN_GALLOP;
+
+        RunStack(int[] array, Metrics metrics) {
+            this.array = array;
+            this.metrics = metrics;
+        }
+
+        void push(int base, int length) {
+            runBase[size] = base;
+            runLength[size] = length;
+            size++;
+        }
+
+        void mergeCollapse() {
+            while (size > 1) {
+                int n = size - 2;
+                if (n > 0 && runLength[n - 1] <= runLength[n] + runLength[n + 1]
+                        || n > 1 && runLength[n - 2] <= runLength[n] + runLength[n - 1]) {
+                    if (runLength[n - 1] < runLength[n + 1]) n--;
+                } else if (runLength[n] > runLength[n + 1]) {
+                    break;
+                }
+                mergeAt(n);
+            }
+        }
+
+        void mergeForceCollapse() {
+            while (size > 1) {
+                int n = size - 2;
+                if (n > 0 && runLength[n - 1] < runLength[n + 1]) n--;
+                mergeAt(n);
+            }
+        }
+
+        private void mergeAt(int i) {
+            int base1 = runBase[i], length1 = runLength[i];
+            int base2 = runBase[i + 1], length2 = runLength[i + 1];
+
+            runLength[i] = length1 + length2;
+            if (i == size - 3) {
+                runBase[i + 1] = runBase[i + 2];
+                runLength[i + 1] = runLength[i + 2];
+            }
+            size--;
 
-        while (i <= mid) array[k++] = buffer[i++];
-        while (j <= right) array[k++] = buffer[j++];
+            // Leading elements of run 1 and trailing elements of run 2 are already in place
+            int skip = IntKernels.gallopRight(array[base2], array, base1, length1, metrics);
+            base1 += skip;
+            length1 -= skip;
+            if (length1 == 0) return;
+
+            length2 = IntKernels.gallopLeft(array[base1 + length1 - 1], array, base2, length2, metrics);
+            if (length2 == 0) return;
+
+            mergeLo(base1, length1, base2, length2);
+        }
+
+        // Merges adjacent runs by copying run 1 aside and filling array from the left;
+        // switches to galloping once one side keeps winning
+        private void mergeLo(int base1, int length1, int base2, int length2) {
+            int[] tmp = ensureCapacity(length1);
+            System.arraycopy(array, base1, tmp, 0, length1);
+            metrics.incrementMoves(2 * length1 + length2);
+
+            minGallop = IntKernels.gallopingMerge(tmp, 0, length1, array, base2, base2 + length2,
+                    array, base1, minGallop, metrics);
+        }
+
+        // Allocated lazily so already-sorted input never needs a buffer
+        private int[] ensureCapacity(int minCapacity) {
+            if (buffer == null || buffer.length < minCapacity) {
+                int capacity = buffer == null ? minCapacity : Math.max(minCapacity, buffer.length * 2);
+                buffer = new int[Math.min(capacity, array.length)];
+                metrics.recordAllocation((long) buffer.length * Integer.BYTES);
+            }
+            return buffer;
+        }
+    }
+
+    // Both modes on the shared runner: halves are sorted as separate subproblems (tasks, in
+    // parallel mode) down to the grain, below which the recursive kernel takes over. Halves
+    // touch disjoint ranges of array and buffer, so all subproblems share both
+    private static class Steps implements DivideAndConquer<Range, Void> {
+        private final int[] array;
+        private final int[] buffer;
+        private final int insertionSortCutoff;
+
+        Steps(int[] array, int[] buffer, int insertionSortCutoff) {
+            this.array = array;
+            this.buffer = buffer;
+            this.insertionSortCutoff = insertionSortCutoff;
+        }
+
+        @Override
+        public int size(Range range) { return range.size(); }
+
+        @Override
+        public Void solveDirectly(Range range, Metrics metrics) {
+            IntKernels.mergeSort(array, range.left(), range.right(), buffer, insertionSortCutoff, metrics);
+            return null;
+        }
+
+        @Override
+        public List<Range> divide(Range range, Metrics metrics) {
+            int mid = range.mid();
+            return List.of(new Range(range.left(), mid), new Range(mid + 1, range.right()));
+        }
+
+        @Override
+        public Void combine(Range range, List<Void> results, Metrics metrics) {
+            IntKernels.merge(array, range.left(), range.mid(), range.right(), buffer, metrics);
+            return null;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,219 @@
+package algorithms;
+
+import metrics.Metrics;
+import metrics.RecursionTracker;
+
+import java.util.Arrays;
+
+// Dynamic multiset of ints with O(log n) expected insert, remove, select and rank. A treap
+// whose nodes live in parallel primitive arrays (no per-node objects); each node holds a
+// distinct key with its multiplicity, and size[] counts elements in the subtree so select
+// and rank can skip whole subtrees. Removed slots are reused through a free list.
+public class OrderStatisticTree {
+    private static final int NIL = 0;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] key;
+    private int[] count;
+    private int[] size;
+    private int[] left;
+    private int[] right;
+    private int[] priority;
+
+    private int root = NIL;
+    private int nextSlot = 1; // slot 0 is the empty sentinel
+    private int freeList = NIL; // chained through left[]
+    private int seed = 0x9E3779B9;
+    private boolean removed;
+
+    private final Metrics metrics;
+
+    public OrderStatisticTree(Metrics metrics) {
+        this.metrics = metrics;
+        key = new int[INITIAL_CAPACITY];
+        count = new int[INITIAL_CAPACITY];
+        size = new int[INITIAL_CAPACITY];
+        left = new int[INITIAL_CAPACITY];
+        right = new int[INITIAL_CAPACITY];
+        priority = new int[INITIAL_CAPACITY];
+        priority[NIL] = Integer.MIN_VALUE;
+        metrics.incrementAllocations();
+    }
+
+    public int size() {
+        return size[root];
+    }
+
+    public boolean isEmpty() {
+        return root == NIL;
+    }
+
+    public void insert(int value) {
+        root = insert(root, value);
+    }
+
+    // Removes one occurrence; returns false if value is not present
+    public boolean remove(int value) {
+        removed = false;
+        root = remove(root, value);
+        return removed;
+    }
+
+    // k-th smallest element, 0-based, duplicates counted
+    public int select(int k) {
+        if (k < 0 || k >= size[root]) {
+            throw new IllegalArgumentException("k must be in [0, size-1]");
+        }
+        int node = root;
+        while (true) {
+            int leftSize = size[left[node]];
+            metrics.incrementComparisons();
+            if (k < leftSize) {
+                node = left[node];
+            } else if (k < leftSize + count[node]) {
+                return key[node];
+            } else {
+                k -= leftSize + count[node];
+                node = right[node];
+            }
+        }
+    }
+
+    // Number of elements strictly less than value
+    public int rank(int value) {
+        int rank = 0;
+        int node = root;
+        while (node != NIL) {
+            metrics.incrementComparisons();
+            if (value <= key[node]) {
+                node = left[node];
+            } else {
+                rank += size[left[node]] + count[node];
+                node = right[node];
+            }
+        }
+        return rank;
+    }
+
+    public int count(int value) {
+        int node = root;
+        while (node != NIL) {
+            metrics.incrementComparisons();
+            if (value == key[node]) return count[node];
+            node = value < key[node] ? left[node] : right[node];
+        }
+        return 0;
+    }
+
+    private int insert(int node, int value) {
+        if (node == NIL) return newNode(value);
+        try (RecursionTracker rt = new RecursionTracker(metrics)) {
+            metrics.incrementComparisons();
+            if (value == key[node]) {
+                count[node]++;
+            } else if (value < key[node]) {
+                // Assign through a local: the recursive call may grow (replace) the arrays
+                int child = insert(left[node], value);
+                left[node] = child;
+                if (priority[child] > priority[node]) return rotateRight(node);
+            } else {
+                int child = insert(right[node], value);
+                right[node] = child;
+                if (priority[child] > priority[node]) return rotateLeft(node);
+            }
+            update(node);
+            return node;
+        }
+    }
+
+    private int remove(int node, int value) {
+        if (node == NIL) return NIL;
+        try (RecursionTracker rt = new RecursionTracker(metrics)) {
+            metrics.incrementComparisons();
+            if (value < key[node]) {
+                left[node] = remove(left[node], value);
+            } else if (value > key[node]) {
+                right[node] = remove(right[node], value);
+            } else if (count[node] > 1) {
+                count[node]--;
+                removed = true;
+            } else if (left[node] == NIL || right[node] == NIL) {
+                int child = left[node] == NIL ? right[node] : left[node];
+                freeNode(node);
+                removed = true;
+                return child;
+            } else {
+                // Rotate the higher-priority child up and continue removing below it
+                if (priority[left[node]] > priority[right[node]]) {
+                    node = rotateRight(node);
+                    right[node] = remove(right[node], value);
+                } else {
+                    node = rotateLeft(node);
+                    left[node] = remove(left[node], value);
+                }
+            }
+            update(node);
+            return node;
+        }
+    }
+
+    private int rotateRight(int node) {
+        int pivot = left[node];
+        left[node] = right[pivot];
+        right[pivot] = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private int rotateLeft(int node) {
+        int pivot = right[node];
+        right[node] = left[pivot];
+        left[pivot] = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private void update(int node) {
+        size[node] = size[left[node]] + size[right[node]] + count[node];
+    }
+
+    private int newNode(int value) {
+        int node;
+        if (freeList != NIL) {
+            node = freeList;
+            freeList = left[node];
+        } else {
+            if (nextSlot == key.length) grow();
+            node = nextSlot++;
+        }
+        key[node] = value;
+        count[node] = 1;
+        size[node] = 1;
+        left[node] = NIL;
+        right[node] = NIL;
+        // xorshift: cheap, and priorities only need to look random relative to the keys
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        priority[node] = seed & Integer.MAX_VALUE;
+        return node;
+    }
+
+    private void freeNode(int node) {
+        left[node] = freeList;
+        freeList = node;
+    }
+
+    private void grow() {
+        int capacity = key.length * 2;
+        key = Arrays.copyOf(key, capacity);
+        count = Arrays.copyOf(count, capacity);
+        size = Arrays.copyOf(size, capacity);
+        left = Arrays.copyOf(left, capacity);
+        right = Arrays.copyOf(right, capacity);
+        priority = Arrays.copyOf(priority, capacity);
+        metrics.recordAllocation(6L * capacity * Integer.BYTES);
+    }
+}
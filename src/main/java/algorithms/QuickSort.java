@@ -1,26 +1,186 @@
 package algorithms;
 
+import divideconquer.InPlaceDivideAndConquer;
+import divideconquer.InPlaceDivideAndConquerRunner;
+import divideconquer.Range;
 import metrics.Metrics;
 import metrics.RecursionTracker;
 import util.ArrayUtils;
+import util.TuningProfile;
 
-import java.util.Random;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntConsumer;
 
 public class QuickSort {
-    private static final Random RANDOM = new Random();
+    // Parallel mode: ranges below the grain sort sequentially; ranges of at least
+    // PARALLEL_PARTITION_THRESHOLD are themselves partitioned in parallel, PARTITION_CHUNK per task.
+    // The grain comes from the tuning profile when one has been calibrated for this machine
+    private static final int PARALLEL_GRAIN =
+            TuningProfile.getInt(TuningProfile.QUICK_SORT_PARALLEL_GRAIN, 1 << 13, 16);
+    private static final int PARALLEL_PARTITION_THRESHOLD = 1 << 20;
+    private static final int PARTITION_CHUNK = 1 << 16;
 
     public static void sort(int[] array, Metrics metrics) {
         if (array == null || array.length <= 1) return;
-        ArrayUtils.shuffle(array, RANDOM); // Randomize for expected O(n log n)
-        sort(array, 0, array.length - 1, metrics);
+        // Randomize for expected O(n log n); thread-local so concurrent callers don't contend
+        ArrayUtils.shuffle(array, ThreadLocalRandom.current());
+        new InPlaceDivideAndConquerRunner<>(new Steps(array, null), PARALLEL_GRAIN)
+                .solve(new Range(0, array.length - 1), metrics);
     }
 
-    private static void sort(int[] array, int left, int right, Metrics metrics) {
+    // Same recursion with BlockQuicksort partitioning: each side records the offsets of its
+    // misplaced elements in a block using branch-free increments, then the pairs are swapped
+    // in bulk, so the data-dependent comparison never feeds a conditional jump
+    public static void sortBlockPartition(int[] array, Metrics metrics) {
+        if (array == null || array.length <= 1) return;
+        ArrayUtils.shuffle(array, ThreadLocalRandom.current());
+        int[] offsetsLeft = new int[IntKernels.PARTITION_BLOCK];
+        int[] offsetsRight = new int[IntKernels.PARTITION_BLOCK];
+        metrics.recordAllocation(2L * IntKernels.PARTITION_BLOCK * Integer.BYTES);
+        IntKernels.blockQuickSort(array, 0, array.length - 1, offsetsLeft, offsetsRight, metrics);
+    }
+
+    public static void parallelSort(int[] array, Metrics metrics) {
+        parallelSort(array, metrics, ForkJoinPool.commonPool());
+    }
+
+    // Random pivots alone give the expected bound here, so the input is not shuffled
+    // (a sequential shuffle would dominate at the sizes this mode is for)
+    public static void parallelSort(int[] array, Metrics metrics, ForkJoinPool pool) {
+        parallelSort(array, PARALLEL_GRAIN, metrics, pool);
+    }
+
+    // Entry point with an explicit grain, for the calibrator
+    static void parallelSort(int[] array, int grain, Metrics metrics, ForkJoinPool pool) {
+        if (array == null || array.length <= 1) return;
+        int[] buffer = null;
+        if (array.length >= PARALLEL_PARTITION_THRESHOLD) {
+            buffer = new int[array.length];
+            metrics.recordAllocation((long) buffer.length * Integer.BYTES);
+        }
+        new InPlaceDivideAndConquerRunner<>(new Steps(array, buffer), grain)
+                .solveParallel(new Range(0, array.length - 1), metrics, pool);
+    }
+
+    public static void sort(long[] array, Metrics metrics) {
+        if (array == null || array.length <= 1) return;
+        ArrayUtils.shuffle(array, ThreadLocalRandom.current());
+        LongKernels.quickSort(array, 0, array.length - 1, metrics);
+    }
+
+    public static void sortBlockPartition(long[] array, Metrics metrics) {
+        if (array == null || array.length <= 1) return;
+        ArrayUtils.shuffle(array, ThreadLocalRandom.current());
+        int[] offsetsLeft = new int[LongKernels.PARTITION_BLOCK];
+        int[] offsetsRight = new int[LongKernels.PARTITION_BLOCK];
+        metrics.recordAllocation(2L * LongKernels.PARTITION_BLOCK * Integer.BYTES);
+        LongKernels.blockQuickSort(array, 0, array.length - 1, offsetsLeft, offsetsRight, metrics);
+    }
+
+    // Floating-point values are sorted as order-preserving bit patterns by the integral
+    // kernels, which gives Double.compare order (-0.0 before 0.0, NaN last)
+    public static void sort(double[] array, Metrics metrics) {
+        if (array == null || array.length <= 1) return;
+        long[] bits = ArrayUtils.toSortableBits(array);
+        metrics.recordAllocation((long) bits.length * Long.BYTES);
+        sort(bits, metrics);
+        ArrayUtils.fromSortableBits(bits, array);
+    }
+
+    public static void sort(float[] array, Metrics metrics) {
+        if (array == null || array.length <= 1) return;
+        int[] bits = ArrayUtils.toSortableBits(array);
+        metrics.recordAllocation((long) bits.length * Integer.BYTES);
+        sort(bits, metrics);
+        ArrayUtils.fromSortableBits(bits, array);
+    }
+
+    // Off-heap variant over native-order ints with long indices. The random pivot alone
+    // gives the expected O(n log n) bound, so the input is not shuffled first.
+    public static void sort(MemorySegment segment, Metrics metrics) {
+        if (segment == null) {
+            throw new IllegalArgumentException("Segment must not be null");
+        }
+        if (segment.byteSize() % Integer.BYTES != 0) {
+            throw new IllegalArgumentException("Segment size must be a multiple of " + Integer.BYTES + " bytes");
+        }
+        long n = segment.byteSize() / Integer.BYTES;
+        if (n <= 1) return;
+        sort(segment, 0, n - 1, metrics);
+    }
+
+    // Out-of-place partition of [left, right] with the same contract as IntKernels.partition(): each chunk
+    // counts its elements below the pivot, a prefix sum gives every chunk disjoint output
+    // slices in buffer for both sides, then the chunks scatter and copy back concurrently
+    private static int parallelPartition(int[] array, int left, int right, int[] buffer, Metrics metrics) {
+        int pivotIndex = IntKernels.randomIndex(left, right);
+        int pivotValue = array[pivotIndex];
+        ArrayUtils.swap(array, pivotIndex, right);
+        metrics.incrementComparisons(2 * (right - left));
+
+        int n = right - left;
+        int chunks = (n + PARTITION_CHUNK - 1) / PARTITION_CHUNK;
+        int[] less = new int[chunks];
+        metrics.recordAllocation((long) chunks * Integer.BYTES);
+        invokeChunks(chunks, c -> {
+            int count = 0;
+            for (int i = left + c * PARTITION_CHUNK, end = Math.min(i + PARTITION_CHUNK, right); i < end; i++) {
+                count += array[i] < pivotValue ? 1 : 0;
+            }
+            less[c] = count;
+        });
+
+        // less[c] becomes the number of smaller elements in the chunks before c
+        int totalLess = 0;
+        for (int c = 0; c < chunks; c++) {
+            int count = less[c];
+            less[c] = totalLess;
+            totalLess += count;
+        }
+        int lessBase = totalLess;
+
+        invokeChunks(chunks, c -> {
+            int start = left + c * PARTITION_CHUNK, end = Math.min(start + PARTITION_CHUNK, right);
+            int lessOut = left + less[c];
+            int greaterOut = left + lessBase + (start - left - less[c]);
+            for (int i = start; i < end; i++) {
+                int value = array[i];
+                if (value < pivotValue) {
+                    buffer[lessOut++] = value;
+                } else {
+                    buffer[greaterOut++] = value;
+                }
+            }
+        });
+        invokeChunks(chunks, c -> {
+            int start = left + c * PARTITION_CHUNK;
+            System.arraycopy(buffer, start, array, start, Math.min(PARTITION_CHUNK, right - start));
+        });
+
+        int storeIndex = left + totalLess;
+        ArrayUtils.swap(array, storeIndex, right);
+        return storeIndex;
+    }
+
+    private static void invokeChunks(int chunks, IntConsumer work) {
+        ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[chunks];
+        for (int c = 0; c < chunks; c++) {
+            int id = c;
+            tasks[c] = ForkJoinTask.adapt(() -> work.accept(id));
+        }
+        ForkJoinTask.invokeAll(tasks);
+    }
+
+    private static void sort(MemorySegment array, long left, long right, Metrics metrics) {
         while (left < right) {
             try (RecursionTracker rt = new RecursionTracker(metrics)) {
-                int pivotIndex = partition(array, left, right, metrics);
+                long pivotIndex = partition(array, left, right, metrics);
 
-                // Recurse on smaller partition first to bound stack depth
                 if (pivotIndex - left < right - pivotIndex) {
                     sort(array, left, pivotIndex - 1, metrics);
                     left = pivotIndex + 1;
@@ -32,21 +192,62 @@ public class QuickSort {
         }
     }
 
-    private static int partition(int[] array, int left, int right, Metrics metrics) {
-        int pivotIndex = left + RANDOM.nextInt(right - left + 1);
-        int pivotValue = array[pivotIndex];
-        ArrayUtils.swap(array, pivotIndex, right);
+    private static long partition(MemorySegment array, long left, long right, Metrics metrics) {
+        long pivotIndex = left + ThreadLocalRandom.current().nextLong(right - left + 1);
+        int pivotValue = array.getAtIndex(ValueLayout.JAVA_INT, pivotIndex);
+        swap(array, pivotIndex, right);
 
-        int storeIndex = left;
-        for (int i = left; i < right; i++) {
+        long storeIndex = left;
+        for (long i = left; i < right; i++) {
             metrics.incrementComparisons();
-            if (array[i] < pivotValue) {
-                ArrayUtils.swap(array, i, storeIndex);
+            int value = array.getAtIndex(ValueLayout.JAVA_INT, i);
+            if (value < pivotValue) {
+                array.setAtIndex(ValueLayout.JAVA_INT, i, array.getAtIndex(ValueLayout.JAVA_INT, storeIndex));
+                array.setAtIndex(ValueLayout.JAVA_INT, storeIndex, value);
                 storeIndex++;
             }
         }
 
-        ArrayUtils.swap(array, storeIndex, right);
+        swap(array, storeIndex, right);
         return storeIndex;
     }
-}
\ No newline at end of file
+
+    private static void swap(MemorySegment array, long i, long j) {
+        int temp = array.getAtIndex(ValueLayout.JAVA_INT, i);
+        array.setAtIndex(ValueLayout.JAVA_INT, i, array.getAtIndex(ValueLayout.JAVA_INT, j));
+        array.setAtIndex(ValueLayout.JAVA_INT, j, temp);
+    }
+
+    // Both modes on the shared runner. There is no combine step, so the runner keeps
+    // partitioning the larger side itself and recurses into (or forks) the smaller one, and
+    // nesting stays O(log n) even when partitions are lopsided. Ranges at or below the grain
+    // go to the sequential kernel
+    private static class Steps implements InPlaceDivideAndConquer<Range> {
+        private final int[] array;
+        private final int[] buffer;
+
+        // buffer enables the parallel partition of huge ranges; sequential sorts pass null
+        Steps(int[] array, int[] buffer) {
+            this.array = array;
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int size(Range range) { return range.size(); }
+
+        @Override
+        public void solveDirectly(Range range, Metrics metrics) {
+            IntKernels.quickSort(array, range.left(), range.right(), metrics);
+        }
+
+        // Sides touch disjoint ranges of array and buffer, so they can share both
+        @Override
+        public List<Range> divide(Range range, Metrics metrics) {
+            int left = range.left(), right = range.right();
+            int pivotIndex = buffer != null && range.size() > PARALLEL_PARTITION_THRESHOLD
+                    ? parallelPartition(array, left, right, buffer, metrics)
+                    : IntKernels.partition(array, left, right, IntKernels.randomIndex(left, right), metrics);
+            return List.of(new Range(left, pivotIndex - 1), new Range(pivotIndex + 1, right));
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package algorithms;
+
+import metrics.Metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntConsumer;
+
+public class RadixSort {
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX = 1 << RADIX_BITS;
+    private static final int DIGIT_MASK = RADIX - 1;
+    private static final int PASSES = Integer.SIZE / RADIX_BITS;
+    // Flipping the sign bit makes signed ints order correctly as unsigned digits
+    private static final int SIGN_FLIP = 0x80000000;
+    // Elements staged per bucket before being flushed to the destination
+    private static final int WRITE_BUFFER_SIZE = 16;
+    // Minimum elements per thread before splitting work is worth it
+    private static final int MIN_CHUNK_SIZE = 1 << 16;
+
+    public static void sort(int[] array, Metrics metrics) {
+        if (array == null || array.length <= 1) return;
+        int[] buffer = new int[array.length];
+        metrics.recordAllocation((long) buffer.length * Integer.BYTES);
+
+        int[] count = new int[RADIX];
+        int[] src = array, dst = buffer;
+        for (int pass = 0; pass < PASSES; pass++) {
+            int shift = pass * RADIX_BITS;
+            Arrays.fill(count, 0);
+            for (int value : src) {
+                count[digit(value, shift)]++;
+            }
+            // Every element shares this digit, the pass would be an identity copy
+            if (count[digit(src[0], shift)] == src.length) continue;
+
+            int sum = 0;
+            for (int d = 0; d < RADIX; d++) {
+                int c = count[d];
+                count[d] = sum;
+                sum += c;
+            }
+            for (int value : src) {
+                dst[count[digit(value, shift)]++] = value;
+            }
+
+            int[] temp = src;
+            src = dst;
+            dst = temp;
+        }
+
+        if (src != array) {
+            System.arraycopy(src, 0, array, 0, array.length);
+        }
+    }
+
+    // Counting sort for narrow key ranges: two passes and a count per possible value. Finds the
+    // range first and leaves the array untouched, returning false, when it spans more than maxRange values
+    static boolean countingSort(int[] array, int maxRange, Metrics metrics) {
+        int min = array[0], max = array[0];
+        for (int value : array) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        long range = (long) max - min + 1;
+        if (range > maxRange) return false;
+
+        int[] count = new int[(int) range];
+        metrics.recordAllocation(range * Integer.BYTES);
+        for (int value : array) {
+            count[value - min]++;
+        }
+        int out = 0;
+        for (int d = 0; d < count.length; d++) {
+            for (int c = count[d]; c > 0; c--) {
+                array[out++] = min + d;
+            }
+        }
+        metrics.incrementMoves(array.length);
+        return true;
+    }
+
+    public static void parallelSort(int[] array, Metrics metrics) {
+        parallelSort(array, metrics, ForkJoinPool.commonPool());
+    }
+
+    public static void parallelSort(int[] array, Metrics metrics, ForkJoinPool pool) {
+        if (array == null || array.length <= 1) return;
+        int n = array.length;
+        int threads = Math.min(pool.getParallelism(), n / MIN_CHUNK_SIZE);
+        if (threads <= 1) {
+            sort(array, metrics);
+            return;
+        }
+
+        int[] buffer = new int[n];
+        metrics.recordAllocation((long) n * Integer.BYTES);
+        // histograms[t][d] first holds thread t's count of digit d, then its scatter offset
+        int[][] histograms = new int[threads][RADIX];
+        metrics.recordAllocation((long) threads * RADIX * Integer.BYTES);
+
+        int[] src = array, dst = buffer;
+        for (int pass = 0; pass < PASSES; pass++) {
+            int shift = pass * RADIX_BITS;
+            int[] from = src, to = dst;
+
+            runAll(pool, threads, t -> {
+                int[] histogram = histograms[t];
+                Arrays.fill(histogram, 0);
+                for (int i = chunkStart(n, threads, t), end = chunkStart(n, threads, t + 1); i < end; i++) {
+                    histogram[digit(from[i], shift)]++;
+                }
+            });
+            if (buildScatterPlan(histograms, n)) continue;
+
+            runAll(pool, threads, t -> scatter(from, to, chunkStart(n, threads, t),
+                    chunkStart(n, threads, t + 1), shift, histograms[t]));
+
+            int[] temp = src;
+            src = dst;
+            dst = temp;
+        }
+
+        if (src != array) {
+            System.arraycopy(src, 0, array, 0, n);
+        }
+    }
+
+    // Prefix sum in digit-major, thread-minor order so each thread owns a disjoint,
+    // stable slice of every bucket. Returns true if the pass can be skipped.
+    private static boolean buildScatterPlan(int[][] histograms, int n) {
+        int sum = 0;
+        for (int d = 0; d < RADIX; d++) {
+            int digitTotal = 0;
+            for (int[] histogram : histograms) {
+                int c = histogram[d];
+                histogram[d] = sum;
+                sum += c;
+                digitTotal += c;
+            }
+            if (digitTotal == n) return true;
+        }
+        return false;
+    }
+
+    private static void scatter(int[] from, int[] to, int start, int end, int shift, int[] offsets) {
+        // Write-combining: stage a few elements per bucket and flush them as one
+        // sequential burst instead of one scattered store per element
+        int[] staged = new int[RADIX * WRITE_BUFFER_SIZE];
+        int[] fill = new int[RADIX];
+
+        for (int i = start; i < end; i++) {
+            int value = from[i];
+            int d = digit(value, shift);
+            int f = fill[d];
+            staged[d * WRITE_BUFFER_SIZE + f] = value;
+            if (++f == WRITE_BUFFER_SIZE) {
+                System.arraycopy(staged, d * WRITE_BUFFER_SIZE, to, offsets[d], WRITE_BUFFER_SIZE);
+                offsets[d] += WRITE_BUFFER_SIZE;
+                f = 0;
+            }
+            fill[d] = f;
+        }
+
+        for (int d = 0; d < RADIX; d++) {
+            if (fill[d] > 0) {
+                System.arraycopy(staged, d * WRITE_BUFFER_SIZE, to, offsets[d], fill[d]);
+                offsets[d] += fill[d];
+            }
+        }
+    }
+
+    private static void runAll(ForkJoinPool pool, int threads, IntConsumer work) {
+        ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[threads];
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            tasks[t] = pool.submit(() -> work.accept(id));
+        }
+        for (ForkJoinTask<?> task : tasks) {
+            task.join();
+        }
+    }
+
+    private static int chunkStart(int n, int threads, int t) {
+        return (int) ((long) n * t / threads);
+    }
+
+    private static int digit(int value, int shift) {
+        return ((value ^ SIGN_FLIP) >>> shift) & DIGIT_MASK;
+    }
+}
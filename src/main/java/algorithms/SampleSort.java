@@ -0,0 +1,164 @@
+package algorithms;
+
+import metrics.Metrics;
+import util.ScratchArena;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntConsumer;
+
+// Parallel sample sort: one distribution pass replaces the serial top-level partition or
+// merge of the recursive sorts. Oversampled splitters are laid out as an implicit search
+// tree, every block classifies its elements into buckets in parallel, a prefix sum over the
+// per-block counts gives each block disjoint output slices, and the buckets are then copied
+// back and merge-sorted as independent tasks.
+public class SampleSort {
+    // Samples drawn per bucket; more samples give more even buckets
+    private static final int OVERSAMPLING = 32;
+    // Bucket count cap: ids fit in a byte and the splitter tree stays in L1
+    private static final int MAX_BUCKETS = 256;
+    // Buckets per thread, so uneven buckets still balance across workers
+    private static final int BUCKETS_PER_THREAD = 4;
+    // Below this, or with a single thread, the sequential merge sort wins
+    private static final int MIN_PARALLEL_SIZE = 1 << 16;
+    // Minimum elements per classification block
+    private static final int MIN_BLOCK_SIZE = 1 << 16;
+
+    public static void parallelSort(int[] array, Metrics metrics) {
+        parallelSort(array, metrics, ForkJoinPool.commonPool());
+    }
+
+    public static void parallelSort(int[] array, Metrics metrics, ForkJoinPool pool) {
+        if (array == null || array.length <= 1) return;
+        int n = array.length;
+        int threads = pool.getParallelism();
+        if (n < MIN_PARALLEL_SIZE || threads == 1) {
+            MergeSort.sort(array, metrics);
+            return;
+        }
+
+        int buckets = Math.min(MAX_BUCKETS, Integer.highestOneBit(threads * BUCKETS_PER_THREAD - 1) << 1);
+        int levels = Integer.numberOfTrailingZeros(buckets);
+        int[] tree = splitterTree(array, buckets, metrics);
+
+        int blocks = Math.max(1, Math.min(threads * BUCKETS_PER_THREAD, n / MIN_BLOCK_SIZE));
+        byte[] bucketOf = new byte[n];
+        // counts[b][j] first holds block b's count for bucket j, then its scatter offset
+        int[][] counts = new int[blocks][buckets];
+        metrics.recordAllocation(n + (long) blocks * buckets * Integer.BYTES);
+
+        Metrics[] blockMetrics = new Metrics[blocks];
+        runAll(pool, blocks, b -> {
+            Metrics blockMetric = metrics.createChild();
+            int[] count = counts[b];
+            for (int i = blockStart(n, blocks, b), end = blockStart(n, blocks, b + 1); i < end; i++) {
+                int bucket = classify(tree, levels, array[i]);
+                bucketOf[i] = (byte) bucket;
+                count[bucket]++;
+            }
+            blockMetric.incrementComparisons((blockStart(n, blocks, b + 1) - blockStart(n, blocks, b)) * levels);
+            blockMetrics[b] = blockMetric;
+        });
+        for (Metrics blockMetric : blockMetrics) {
+            metrics.merge(blockMetric);
+        }
+
+        // Bucket-major, block-minor prefix sum
+        int[] bucketStart = new int[buckets + 1];
+        int sum = 0;
+        for (int j = 0; j < buckets; j++) {
+            bucketStart[j] = sum;
+            for (int[] count : counts) {
+                int c = count[j];
+                count[j] = sum;
+                sum += c;
+            }
+        }
+        bucketStart[buckets] = n;
+
+        int[] buffer = ScratchArena.borrowInts(n, metrics);
+        try {
+            runAll(pool, blocks, b -> {
+                int[] offset = counts[b];
+                for (int i = blockStart(n, blocks, b), end = blockStart(n, blocks, b + 1); i < end; i++) {
+                    buffer[offset[bucketOf[i] & 0xFF]++] = array[i];
+                }
+            });
+            metrics.incrementMoves(n);
+
+            // Each bucket is final once sorted: copy it back and merge-sort it in place,
+            // using the same range of buffer as scratch
+            Metrics[] bucketMetrics = new Metrics[buckets];
+            runAll(pool, buckets, j -> {
+                Metrics bucketMetric = metrics.createChild();
+                int lo = bucketStart[j], hi = bucketStart[j + 1];
+                System.arraycopy(buffer, lo, array, lo, hi - lo);
+                if (hi - lo > 1) {
+                    MergeSort.sort(array, lo, hi - 1, buffer, bucketMetric);
+                }
+                bucketMetric.incrementMoves(hi - lo);
+                bucketMetrics[j] = bucketMetric;
+            });
+            for (Metrics bucketMetric : bucketMetrics) {
+                metrics.merge(bucketMetric);
+            }
+        } finally {
+            ScratchArena.release(buffer);
+        }
+    }
+
+    // Sorted sample splitters in Eytzinger order: tree[1] is the root and node i has
+    // children 2i and 2i+1, so classification walks down with index arithmetic only
+    private static int[] splitterTree(int[] array, int buckets, Metrics metrics) {
+        int sampleSize = buckets * OVERSAMPLING;
+        int[] sample = new int[sampleSize];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < sampleSize; i++) {
+            sample[i] = array[random.nextInt(array.length)];
+        }
+        MergeSort.sort(sample, metrics);
+
+        int[] splitters = new int[buckets - 1];
+        for (int j = 1; j < buckets; j++) {
+            splitters[j - 1] = sample[j * OVERSAMPLING];
+        }
+        int[] tree = new int[buckets];
+        fillTree(tree, 1, splitters, new int[]{0});
+        metrics.recordAllocation((long) (sampleSize + 2 * buckets) * Integer.BYTES);
+        return tree;
+    }
+
+    // In-order walk of the implicit tree assigns the sorted splitters
+    private static void fillTree(int[] tree, int node, int[] splitters, int[] next) {
+        if (node >= tree.length) return;
+        fillTree(tree, 2 * node, splitters, next);
+        tree[node] = splitters[next[0]++];
+        fillTree(tree, 2 * node + 1, splitters, next);
+    }
+
+    // Bucket j holds values in (splitter[j-1], splitter[j]]. The comparison result feeds
+    // the index directly, so the walk has no data-dependent branch.
+    private static int classify(int[] tree, int levels, int value) {
+        int node = 1;
+        for (int level = 0; level < levels; level++) {
+            node = 2 * node + (value > tree[node] ? 1 : 0);
+        }
+        return node - tree.length;
+    }
+
+    private static void runAll(ForkJoinPool pool, int tasks, IntConsumer work) {
+        ForkJoinTask<?>[] submitted = new ForkJoinTask<?>[tasks];
+        for (int t = 0; t < tasks; t++) {
+            int id = t;
+            submitted[t] = pool.submit(() -> work.accept(id));
+        }
+        for (ForkJoinTask<?> task : submitted) {
+            task.join();
+        }
+    }
+
+    private static int blockStart(int n, int blocks, int b) {
+        return (int) ((long) n * b / blocks);
+    }
+}
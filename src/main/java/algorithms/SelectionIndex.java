@@ -0,0 +1,70 @@
+package algorithms;
+
+import metrics.Metrics;
+
+import java.util.BitSet;
+
+// Answers repeated order-statistic queries on one unchanging array by cracking it in place.
+// Every pivot a query places is at its final sorted position and is remembered, so the next
+// query only partitions the unresolved segment between the nearest resolved positions around
+// its k. Small segments are sorted outright, and the array converges toward sorted order.
+public class SelectionIndex {
+    // Segments up to this length are insertion-sorted and fully resolved in one go
+    private static final int SORT_CUTOFF = 16;
+
+    private final int[] array;
+    // resolved.get(i): array[i] holds the i-th smallest element
+    private final BitSet resolved;
+    private final Metrics metrics;
+
+    // Works on a private copy; data itself is left untouched
+    public SelectionIndex(int[] data, Metrics metrics) {
+        if (data == null || data.length == 0) {
+            throw new IllegalArgumentException("Array must not be null or empty");
+        }
+        this.array = data.clone();
+        this.resolved = new BitSet(array.length);
+        this.metrics = metrics;
+        metrics.incrementAllocations();
+    }
+
+    public int size() {
+        return array.length;
+    }
+
+    public int resolvedCount() {
+        return resolved.cardinality();
+    }
+
+    public int select(int k) {
+        if (k < 0 || k >= array.length) {
+            throw new IllegalArgumentException("k must be in [0, array.length-1]");
+        }
+        if (resolved.get(k)) return array[k];
+
+        int left = resolved.previousSetBit(k) + 1;
+        int next = resolved.nextSetBit(k);
+        int right = next < 0 ? array.length - 1 : next - 1;
+
+        while (right - left >= SORT_CUTOFF) {
+            int pivotIndex = IntKernels.medianOfMedians(array, left, right, metrics);
+            pivotIndex = IntKernels.partition(array, left, right, pivotIndex, metrics);
+            resolved.set(pivotIndex);
+
+            if (k == pivotIndex) {
+                return array[k];
+            } else if (k < pivotIndex) {
+                right = pivotIndex - 1;
+            } else {
+                int equalEnd = IntKernels.partitionEqual(array, pivotIndex, right, metrics);
+                resolved.set(pivotIndex, equalEnd + 1);
+                if (k <= equalEnd) return array[k];
+                left = equalEnd + 1;
+            }
+        }
+
+        IntKernels.insertionSort(array, left, right, metrics);
+        resolved.set(left, right + 1);
+        return array[k];
+    }
+}
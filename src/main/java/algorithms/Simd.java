@@ -0,0 +1,19 @@
+package algorithms;
+
+// Runtime switch for the Vector API kernels. They are used only when requested with
+// -Dalgorithms.simd=true and the JVM was started with --add-modules jdk.incubator.vector;
+// otherwise VectorKernels is never loaded and the scalar paths run unchanged.
+public final class Simd {
+    static final boolean ENABLED = Boolean.getBoolean("algorithms.simd")
+            && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    // Ranges shorter than this stay scalar: setup costs more than the vector loop saves
+    static final int MIN_LENGTH = 64;
+
+    private Simd() {
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+}
@@ -0,0 +1,187 @@
+package algorithms;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+// Vector API versions of the partition and merge inner loops. Only reached through
+// Simd.ENABLED, so this class (and the incubator module) is loaded on demand.
+final class VectorKernels {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+
+    private static final VectorShuffle<Integer> REVERSE = VectorShuffle.fromOp(SPECIES, i -> LANES - 1 - i);
+    // Per bitonic stage with distance d = 1, 2, 4, ...: the partner lane i ^ d, and which
+    // lanes keep the larger value of each pair
+    private static final VectorShuffle<Integer>[] PARTNER;
+    private static final VectorMask<Integer>[] UPPER;
+
+    static {
+        int stages = Integer.numberOfTrailingZeros(LANES);
+        @SuppressWarnings("unchecked")
+        VectorShuffle<Integer>[] partner = (VectorShuffle<Integer>[]) new VectorShuffle<?>[stages];
+        @SuppressWarnings("unchecked")
+        VectorMask<Integer>[] upper = (VectorMask<Integer>[]) new VectorMask<?>[stages];
+        for (int s = 0; s < stages; s++) {
+            int d = 1 << s;
+            partner[s] = VectorShuffle.fromOp(SPECIES, i -> i ^ d);
+            boolean[] bits = new boolean[LANES];
+            for (int i = 0; i < LANES; i++) {
+                bits[i] = (i & d) != 0;
+            }
+            upper[s] = VectorMask.fromArray(SPECIES, bits, 0);
+        }
+        PARTNER = partner;
+        UPPER = upper;
+    }
+
+    private VectorKernels() {
+    }
+
+    static int lanes() {
+        return LANES;
+    }
+
+    // Same contract as the scalar Lomuto partitions: moves array[pivotIndex] to its final
+    // position in [left, right], smaller elements before it, and returns that position
+    static int partition(int[] array, int left, int right, int pivotIndex) {
+        int pivotValue = array[pivotIndex];
+        array[pivotIndex] = array[right];
+        array[right] = pivotValue;
+
+        int store = partitionLess(array, left, right, pivotValue);
+
+        array[right] = array[store];
+        array[store] = pivotValue;
+        return store;
+    }
+
+    // In-place compress-store partition of [lo, hi) into elements < pivot followed by the rest.
+    // One vector from each end is held in registers first; every later vector is read from the
+    // side with less free space, so the compressed writes never overrun unread elements.
+    private static int partitionLess(int[] array, int lo, int hi, int pivot) {
+        if (hi - lo < 2 * LANES) {
+            int store = lo;
+            for (int i = lo; i < hi; i++) {
+                int value = array[i];
+                if (value < pivot) {
+                    array[i] = array[store];
+                    array[store++] = value;
+                }
+            }
+            return store;
+        }
+
+        IntVector pivots = IntVector.broadcast(SPECIES, pivot);
+        IntVector first = IntVector.fromArray(SPECIES, array, lo);
+        IntVector last = IntVector.fromArray(SPECIES, array, hi - LANES);
+        int readLeft = lo + LANES, readRight = hi - LANES;
+        int writeLeft = lo, writeRight = hi;
+
+        while (readRight - readLeft >= LANES) {
+            IntVector v;
+            if (readLeft - writeLeft <= writeRight - readRight) {
+                v = IntVector.fromArray(SPECIES, array, readLeft);
+                readLeft += LANES;
+            } else {
+                readRight -= LANES;
+                v = IntVector.fromArray(SPECIES, array, readRight);
+            }
+            VectorMask<Integer> less = v.lt(pivots);
+            int count = less.trueCount();
+            v.compress(less).intoArray(array, writeLeft, SPECIES.indexInRange(0, count));
+            writeLeft += count;
+            writeRight -= LANES - count;
+            v.compress(less.not()).intoArray(array, writeRight, SPECIES.indexInRange(0, LANES - count));
+        }
+
+        // Fewer than LANES unread elements remain; buffer them before writing
+        int[] tail = new int[readRight - readLeft];
+        System.arraycopy(array, readLeft, tail, 0, tail.length);
+        for (int value : tail) {
+            if (value < pivot) {
+                array[writeLeft++] = value;
+            } else {
+                array[--writeRight] = value;
+            }
+        }
+
+        for (IntVector v : new IntVector[]{first, last}) {
+            VectorMask<Integer> less = v.lt(pivots);
+            int count = less.trueCount();
+            v.compress(less).intoArray(array, writeLeft, SPECIES.indexInRange(0, count));
+            writeLeft += count;
+            writeRight -= LANES - count;
+            v.compress(less.not()).intoArray(array, writeRight, SPECIES.indexInRange(0, LANES - count));
+        }
+        return writeLeft;
+    }
+
+    // Merges sorted src[a, aEnd) and src[b, bEnd) into dest starting at k. Each step merges two
+    // vectors with a bitonic network, emits the lower half and carries the upper half into the
+    // next step, loading from whichever input has the smaller next element. Both runs must
+    // hold at least lanes() elements, and dest must not overlap src.
+    static void merge(int[] src, int a, int aEnd, int b, int bEnd, int[] dest, int k) {
+        IntVector carry = IntVector.fromArray(SPECIES, src, a);
+        IntVector next = IntVector.fromArray(SPECIES, src, b);
+        a += LANES;
+        b += LANES;
+
+        while (true) {
+            IntVector reversed = next.rearrange(REVERSE);
+            IntVector low = bitonicSort(carry.min(reversed));
+            carry = bitonicSort(carry.max(reversed));
+            low.intoArray(dest, k);
+            k += LANES;
+
+            boolean takeA = a < aEnd && (b == bEnd || src[a] <= src[b]);
+            if (takeA ? aEnd - a < LANES : bEnd - b < LANES) {
+                break;
+            }
+            if (takeA) {
+                next = IntVector.fromArray(SPECIES, src, a);
+                a += LANES;
+            } else {
+                next = IntVector.fromArray(SPECIES, src, b);
+                b += LANES;
+            }
+        }
+
+        // Scalar three-way merge of the carried vector with both tails
+        int[] pending = new int[LANES];
+        carry.intoArray(pending, 0);
+        int p = 0;
+        while (p < LANES || a < aEnd || b < bEnd) {
+            int best = 0;
+            int bestValue = Integer.MAX_VALUE;
+            boolean found = false;
+            if (p < LANES) {
+                bestValue = pending[p];
+                found = true;
+            }
+            if (a < aEnd && (!found || src[a] < bestValue)) {
+                best = 1;
+                bestValue = src[a];
+                found = true;
+            }
+            if (b < bEnd && (!found || src[b] < bestValue)) {
+                best = 2;
+                bestValue = src[b];
+            }
+            dest[k++] = bestValue;
+            if (best == 0) p++;
+            else if (best == 1) a++;
+            else b++;
+        }
+    }
+
+    // Sorts a bitonic vector ascending
+    private static IntVector bitonicSort(IntVector v) {
+        for (int s = PARTNER.length - 1; s >= 0; s--) {
+            IntVector partner = v.rearrange(PARTNER[s]);
+            v = v.min(partner).blend(v.max(partner), UPPER[s]);
+        }
+        return v;
+    }
+}
@@ -0,0 +1,80 @@
+package batch;
+
+import algorithms.DeterministicSelect;
+import algorithms.MergeSort;
+import algorithms.QuickSort;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Runs many small independent jobs on a fixed set of virtual-thread workers. Workers claim
+// jobs in small chunks from a shared cursor, so a worker that drew cheap jobs keeps taking
+// more, and each keeps one merge buffer that grows to its largest job instead of
+// allocating one per sort.
+public final class BatchSorter {
+    // Jobs claimed per cursor update: amortizes the atomic without hurting the balance
+    private static final int CLAIM_SIZE = 16;
+
+    private BatchSorter() {
+    }
+
+    public static void run(List<SortJob> jobs) {
+        run(jobs, Runtime.getRuntime().availableProcessors());
+    }
+
+    public static void run(List<SortJob> jobs, int workers) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("workers must be positive");
+        }
+        AtomicInteger cursor = new AtomicInteger();
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        int threadCount = Math.min(workers, Math.max(1, (jobs.size() + CLAIM_SIZE - 1) / CLAIM_SIZE));
+        Thread[] threads = new Thread[threadCount];
+        for (int w = 0; w < threadCount; w++) {
+            threads[w] = Thread.ofVirtual().name("batch-sorter-", w).start(() -> {
+                int[] scratch = new int[0];
+                int start;
+                while (failure.get() == null && (start = cursor.getAndAdd(CLAIM_SIZE)) < jobs.size()) {
+                    for (int i = start, end = Math.min(start + CLAIM_SIZE, jobs.size()); i < end; i++) {
+                        try {
+                            scratch = execute(jobs.get(i), scratch);
+                        } catch (RuntimeException e) {
+                            failure.compareAndSet(null, e);
+                            return;
+                        }
+                    }
+                }
+            });
+        }
+
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for batch workers", e);
+            }
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+
+    // Returns the worker's scratch buffer, grown if this job needed a larger one
+    private static int[] execute(SortJob job, int[] scratch) {
+        int[] array = job.getArray();
+        switch (job.getKind()) {
+            case MERGE_SORT -> {
+                if (scratch.length < array.length) {
+                    scratch = new int[Math.max(array.length, 2 * scratch.length)];
+                    job.getMetrics().recordAllocation((long) scratch.length * Integer.BYTES);
+                }
+                MergeSort.sort(array, scratch, job.getMetrics());
+            }
+            case QUICK_SORT -> QuickSort.sort(array, job.getMetrics());
+            case SELECT -> job.setSelected(DeterministicSelect.select(array, job.getK(), job.getMetrics()));
+        }
+        return scratch;
+    }
+}
@@ -0,0 +1,52 @@
+package batch;
+
+import metrics.Metrics;
+
+// One independent request in a batch. Sorts run in place; a selection reorders its array
+// and stores the k-th smallest value. Each job carries its own Metrics.
+public final class SortJob {
+    public enum Kind { MERGE_SORT, QUICK_SORT, SELECT }
+
+    private final Kind kind;
+    private final int[] array;
+    private final int k;
+    private final Metrics metrics = new Metrics();
+    private int selected;
+
+    private SortJob(Kind kind, int[] array, int k) {
+        if (array == null) {
+            throw new IllegalArgumentException("Array must not be null");
+        }
+        this.kind = kind;
+        this.array = array;
+        this.k = k;
+    }
+
+    public static SortJob mergeSort(int[] array) {
+        return new SortJob(Kind.MERGE_SORT, array, -1);
+    }
+
+    public static SortJob quickSort(int[] array) {
+        return new SortJob(Kind.QUICK_SORT, array, -1);
+    }
+
+    public static SortJob select(int[] array, int k) {
+        return new SortJob(Kind.SELECT, array, k);
+    }
+
+    public Kind getKind() { return kind; }
+    public int[] getArray() { return array; }
+    public int getK() { return k; }
+    public Metrics getMetrics() { return metrics; }
+
+    public int getSelected() {
+        if (kind != Kind.SELECT) {
+            throw new IllegalStateException("Only selection jobs have a result");
+        }
+        return selected;
+    }
+
+    void setSelected(int selected) {
+        this.selected = selected;
+    }
+}
@@ -0,0 +1,83 @@
+package benchmarks;
+
+import algorithms.AdaptiveSort;
+import algorithms.MergeSort;
+import algorithms.QuickSort;
+import algorithms.RadixSort;
+import metrics.Metrics;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// AdaptiveSort against each engine it can dispatch to, over every input pattern; the aux
+// counter shows which engine the front door picked. QuickSort goes quadratic on the
+// duplicate-heavy patterns, which is part of what the matrix is meant to show
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class AdaptiveSortBenchmark {
+
+    @Param({"1000", "100000"})
+    private int arraySize;
+
+    @Param({"RANDOM", "SORTED", "REVERSE_SORTED", "NEARLY_SORTED", "SAWTOOTH", "FEW_DISTINCT", "ALL_EQUAL"})
+    private InputPattern inputPattern;
+
+    private int[] data;
+    private int[] array;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Decision {
+        // Ordinal of the AdaptiveSort.Strategy used by the last invocation
+        public int strategy;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        data = inputPattern.generate(arraySize, new Random(42));
+        array = new int[arraySize];
+    }
+
+    @Setup(Level.Invocation)
+    public void resetArray() {
+        System.arraycopy(data, 0, array, 0, arraySize);
+    }
+
+    @Benchmark
+    public void adaptiveSort(Blackhole bh, Decision decision) {
+        Metrics metrics = new Metrics();
+        AdaptiveSort.sort(array, metrics);
+        decision.strategy = AdaptiveSort.Strategy.valueOf(metrics.getStrategy()).ordinal();
+        bh.consume(array);
+    }
+
+    @Benchmark
+    public void mergeSort(Blackhole bh) {
+        MergeSort.sort(array, new Metrics());
+        bh.consume(array);
+    }
+
+    @Benchmark
+    public void naturalMergeSort(Blackhole bh) {
+        MergeSort.naturalSort(array, new Metrics());
+        bh.consume(array);
+    }
+
+    @Benchmark
+    public void quickSort(Blackhole bh) {
+        QuickSort.sort(array, new Metrics());
+        bh.consume(array);
+    }
+
+    @Benchmark
+    public void radixSort(Blackhole bh) {
+        RadixSort.sort(array, new Metrics());
+        bh.consume(array);
+    }
+}
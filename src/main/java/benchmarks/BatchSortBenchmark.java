@@ -0,0 +1,79 @@
+package benchmarks;
+
+import algorithms.DeterministicSelect;
+import algorithms.MergeSort;
+import algorithms.QuickSort;
+import batch.BatchSorter;
+import batch.SortJob;
+import metrics.Metrics;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Aggregate throughput over many small independent jobs; scores are jobs per second
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@OperationsPerInvocation(BatchSortBenchmark.JOB_COUNT)
+public class BatchSortBenchmark {
+    static final int JOB_COUNT = 10_000;
+
+    @Param({"100", "1000"})
+    private int jobSize;
+
+    @Param({"MERGE_SORT", "QUICK_SORT", "SELECT"})
+    private SortJob.Kind kind;
+
+    private int[][] data;
+    private List<SortJob> jobs;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        data = new int[JOB_COUNT][];
+        for (int i = 0; i < JOB_COUNT; i++) {
+            // Sizes vary around jobSize so workers see uneven jobs
+            data[i] = InputPattern.RANDOM.generate(jobSize / 2 + random.nextInt(jobSize), random);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void resetJobs() {
+        jobs = new ArrayList<>(JOB_COUNT);
+        for (int[] array : data) {
+            int[] copy = array.clone();
+            jobs.add(switch (kind) {
+                case MERGE_SORT -> SortJob.mergeSort(copy);
+                case QUICK_SORT -> SortJob.quickSort(copy);
+                case SELECT -> SortJob.select(copy, copy.length / 2);
+            });
+        }
+    }
+
+    @Benchmark
+    public void batch(Blackhole bh) {
+        BatchSorter.run(jobs);
+        bh.consume(jobs);
+    }
+
+    // Baseline: one thread, a fresh buffer per merge sort
+    @Benchmark
+    public void naiveLoop(Blackhole bh) {
+        for (SortJob job : jobs) {
+            Metrics metrics = new Metrics();
+            switch (kind) {
+                case MERGE_SORT -> MergeSort.sort(job.getArray(), metrics);
+                case QUICK_SORT -> QuickSort.sort(job.getArray(), metrics);
+                case SELECT -> bh.consume(DeterministicSelect.select(job.getArray(), job.getK(), metrics));
+            }
+            bh.consume(metrics);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package benchmarks;
+
+import algorithms.DeterministicSelect;
+import distributed.DistributedSelect;
+import distributed.LocalShard;
+import distributed.RemoteShard;
+import distributed.Shard;
+import distributed.ShardServer;
+import metrics.Metrics;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// Median over sharded data: the pivot-round protocol against in-process and localhost
+// shards, and the gather-then-select baseline. Rounds and messages per query are reported
+// as aux counters.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DistributedSelectBenchmark {
+
+    @Param({"4", "16"})
+    private int shardCount;
+
+    @Param({"100000", "1000000"})
+    private int elementsPerShard;
+
+    private int[][] data;
+    private long k;
+    private DistributedSelect inProcess;
+    private DistributedSelect localhost;
+    private final List<ShardServer> servers = new ArrayList<>();
+    private final List<RemoteShard> remoteShards = new ArrayList<>();
+    private ExecutorService executor;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ProtocolCounters {
+        public long rounds;
+        public long messages;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        Random random = new Random(42);
+        data = new int[shardCount][];
+        List<Shard> localShards = new ArrayList<>();
+        executor = Executors.newCachedThreadPool();
+        for (int s = 0; s < shardCount; s++) {
+            data[s] = InputPattern.RANDOM.generate(elementsPerShard, random);
+            localShards.add(new LocalShard(data[s], new Metrics()));
+
+            ShardServer server = new ShardServer(0, new LocalShard(data[s], new Metrics()));
+            servers.add(server);
+            executor.submit(() -> {
+                server.serve();
+                return null;
+            });
+            remoteShards.add(new RemoteShard("localhost", server.getPort()));
+        }
+        k = (long) shardCount * elementsPerShard / 2;
+        inProcess = new DistributedSelect(localShards);
+        localhost = new DistributedSelect(remoteShards);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        for (RemoteShard shard : remoteShards) shard.close();
+        for (ShardServer server : servers) server.close();
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public int inProcessShards(ProtocolCounters counters) throws IOException {
+        int result = inProcess.select(k);
+        counters.rounds = inProcess.getRounds();
+        counters.messages = inProcess.getMessages();
+        return result;
+    }
+
+    @Benchmark
+    public int localhostShards(ProtocolCounters counters) throws IOException {
+        int result = localhost.select(k);
+        counters.rounds = localhost.getRounds();
+        counters.messages = localhost.getMessages();
+        return result;
+    }
+
+    // What the protocol replaces: every shard's data copied to one array, then selected;
+    // "messages" here counts the values that would cross the wire
+    @Benchmark
+    public int gatherThenSelect(ProtocolCounters counters) {
+        int[] all = new int[shardCount * elementsPerShard];
+        for (int s = 0; s < shardCount; s++) {
+            System.arraycopy(data[s], 0, all, s * elementsPerShard, elementsPerShard);
+        }
+        counters.rounds = 1;
+        counters.messages = all.length;
+        return DeterministicSelect.select(all, (int) k, new Metrics());
+    }
+}
@@ -0,0 +1,87 @@
+package benchmarks;
+
+import algorithms.ClosestPair;
+import algorithms.DeterministicSelect;
+import metrics.Metrics;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+// Parallel modes of selection and closest pair on the shared divide-and-conquer runner against
+// their sequential entry points; threads = 1 measures the runner's overhead over the recursion
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class DivideAndConquerBenchmark {
+
+    @Param({"1000000", "10000000"})
+    private int size;
+
+    @Param({"1", "2", "4", "8"})
+    private int threads;
+
+    private int[] data;
+    private int[] array;
+    private ClosestPair.Point[] points;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        data = new int[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = random.nextInt();
+        }
+        array = new int[size];
+        // Closest pair is O(n log^2 n) with far larger constants, so it runs on a tenth of the size
+        points = new ClosestPair.Point[size / 10];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = new ClosestPair.Point(random.nextDouble() * 1000, random.nextDouble() * 1000);
+        }
+        pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Setup(Level.Invocation)
+    public void resetArray() {
+        System.arraycopy(data, 0, array, 0, size);
+    }
+
+    @Benchmark
+    public void selectSequential(Blackhole bh) {
+        Metrics metrics = new Metrics();
+        bh.consume(DeterministicSelect.select(array, size / 2, metrics));
+        bh.consume(metrics);
+    }
+
+    @Benchmark
+    public void selectParallel(Blackhole bh) {
+        Metrics metrics = new Metrics();
+        bh.consume(DeterministicSelect.parallelSelect(array, size / 2, metrics, pool));
+        bh.consume(metrics);
+    }
+
+    @Benchmark
+    public void closestPairSequential(Blackhole bh) {
+        Metrics metrics = new Metrics();
+        bh.consume(ClosestPair.findClosestPair(points, metrics));
+        bh.consume(metrics);
+    }
+
+    @Benchmark
+    public void closestPairParallel(Blackhole bh) {
+        Metrics metrics = new Metrics();
+        bh.consume(ClosestPair.findClosestPairParallel(points, metrics, pool));
+        bh.consume(metrics);
+    }
+}
@@ -0,0 +1,75 @@
+package benchmarks;
+
+import algorithms.ExternalMergeSort;
+import metrics.Metrics;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Files are created in the system temp directory, so results reflect that disk
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class ExternalSortBenchmark {
+
+    @Param({"64", "512", "2048"})
+    private int fileSizeMb;
+
+    // Ints per in-memory run; 4M ints = 16 MB, so every size produces several runs
+    @Param({"4194304"})
+    private int runLength;
+
+    private Path directory;
+    private Path input;
+    private Path output;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("external-sort");
+        input = directory.resolve("input.bin");
+        output = directory.resolve("output.bin");
+
+        Random random = new Random(42);
+        long count = (long) fileSizeMb * 1024 * 1024 / Integer.BYTES;
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(input), 1 << 20))) {
+            for (long i = 0; i < count; i++) {
+                out.writeInt(random.nextInt());
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(input);
+        Files.deleteIfExists(output);
+        Files.deleteIfExists(directory);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Throughput {
+        public double megabytesPerSecond;
+    }
+
+    @Benchmark
+    public void externalMergeSort(Blackhole bh, Throughput throughput) throws IOException {
+        Metrics metrics = new Metrics();
+        long startTime = System.nanoTime();
+        ExternalMergeSort.sort(input, output, runLength, metrics);
+        long endTime = System.nanoTime();
+
+        throughput.megabytesPerSecond = fileSizeMb / ((endTime - startTime) / 1e9);
+        bh.consume(metrics);
+    }
+}
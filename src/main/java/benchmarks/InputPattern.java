@@ -0,0 +1,66 @@
+package benchmarks;
+
+import util.ArrayUtils;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public enum InputPattern {
+    RANDOM,
+    SORTED,
+    REVERSE_SORTED,
+    NEARLY_SORTED,
+    SAWTOOTH,
+    FEW_DISTINCT,
+    ALL_EQUAL;
+
+    private static final int SAWTOOTH_TEETH = 8;
+    // Status-code-like keys: a handful of values repeated across the whole array
+    private static final int FEW_DISTINCT_VALUES = 8;
+
+    public int[] generate(int n, Random random) {
+        int[] array = new int[n];
+        switch (this) {
+            case RANDOM:
+                for (int i = 0; i < n; i++) {
+                    array[i] = random.nextInt(n * 10);
+                }
+                break;
+            case SORTED:
+                for (int i = 0; i < n; i++) {
+                    array[i] = i * 10;
+                }
+                break;
+            case REVERSE_SORTED:
+                for (int i = 0; i < n; i++) {
+                    array[i] = (n - i) * 10;
+                }
+                break;
+            case NEARLY_SORTED:
+                // Sorted, then about 1% of positions disturbed by random swaps
+                for (int i = 0; i < n; i++) {
+                    array[i] = i * 10;
+                }
+                for (int s = 0; s < Math.max(1, n / 100); s++) {
+                    ArrayUtils.swap(array, random.nextInt(n), random.nextInt(n));
+                }
+                break;
+            case SAWTOOTH:
+                // A few long ascending runs that restart from the bottom
+                int period = Math.max(1, n / SAWTOOTH_TEETH);
+                for (int i = 0; i < n; i++) {
+                    array[i] = (i % period) * 10;
+                }
+                break;
+            case FEW_DISTINCT:
+                for (int i = 0; i < n; i++) {
+                    array[i] = random.nextInt(FEW_DISTINCT_VALUES) * 100;
+                }
+                break;
+            case ALL_EQUAL:
+                Arrays.fill(array, 200);
+                break;
+        }
+        return array;
+    }
+}
@@ -0,0 +1,71 @@
+package benchmarks;
+
+import algorithms.DeterministicSelect;
+import algorithms.MergeSort;
+import metrics.Metrics;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Explicit work-stack variants against the recursive entry points they mirror
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class IterativeVsRecursiveBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int arraySize;
+
+    private int[] data;
+    private int[] array;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        data = new int[arraySize];
+        for (int i = 0; i < arraySize; i++) {
+            data[i] = random.nextInt();
+        }
+        array = new int[arraySize];
+    }
+
+    @Setup(Level.Invocation)
+    public void resetArray() {
+        System.arraycopy(data, 0, array, 0, arraySize);
+    }
+
+    @Benchmark
+    public void mergeSortRecursive(Blackhole bh) {
+        Metrics metrics = new Metrics();
+        MergeSort.sort(array, metrics);
+        bh.consume(array);
+        bh.consume(metrics);
+    }
+
+    @Benchmark
+    public void mergeSortIterative(Blackhole bh) {
+        Metrics metrics = new Metrics();
+        MergeSort.sortIterative(array, metrics);
+        bh.consume(array);
+        bh.consume(metrics);
+    }
+
+    @Benchmark
+    public void selectRecursive(Blackhole bh) {
+        Metrics metrics = new Metrics();
+        bh.consume(DeterministicSelect.select(array, arraySize / 2, metrics));
+        bh.consume(metrics);
+    }
+
+    @Benchmark
+    public void selectIterative(Blackhole bh) {
+        Metrics metrics = new Metrics();
+        bh.consume(DeterministicSelect.selectIterative(array, arraySize / 2, metrics));
+        bh.consume(metrics);
+    }
+}
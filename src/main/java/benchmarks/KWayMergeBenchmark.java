@@ -0,0 +1,95 @@
+package benchmarks;
+
+import algorithms.KWayMerge;
+import metrics.Metrics;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KWayMergeBenchmark {
+
+    @Param({"2", "8", "64", "512"})
+    private int runCount;
+
+    @Param({"1000000"})
+    private int totalSize;
+
+    private int[][] runs;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        runs = new int[runCount][];
+        for (int r = 0; r < runCount; r++) {
+            int length = totalSize / runCount + (r < totalSize % runCount ? 1 : 0);
+            runs[r] = random.ints(length).toArray();
+            Arrays.sort(runs[r]);
+        }
+    }
+
+    // Comparisons per output element; the loser tree should stay near log2(runCount)
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ComparisonCounters {
+        public double comparisonsPerElement;
+    }
+
+    @Benchmark
+    public void loserTreeMerge(Blackhole bh, ComparisonCounters counters) {
+        Metrics metrics = new Metrics();
+        int[] merged = KWayMerge.merge(runs, metrics);
+        counters.comparisonsPerElement = (double) metrics.getComparisons() / totalSize;
+        bh.consume(merged);
+    }
+
+    // Folds runs into the result one at a time: O(n * k) comparisons
+    @Benchmark
+    public void repeatedPairwiseMerge(Blackhole bh, ComparisonCounters counters) {
+        long[] comparisons = new long[1];
+        int[] merged = runs[0];
+        for (int r = 1; r < runCount; r++) {
+            merged = mergeTwo(merged, runs[r], comparisons);
+        }
+        counters.comparisonsPerElement = (double) comparisons[0] / totalSize;
+        bh.consume(merged);
+    }
+
+    // Merges runs in a balanced binary cascade: log2(k) passes over all data
+    @Benchmark
+    public void balancedPairwiseMerge(Blackhole bh, ComparisonCounters counters) {
+        long[] comparisons = new long[1];
+        int[][] level = runs;
+        while (level.length > 1) {
+            int[][] next = new int[(level.length + 1) / 2][];
+            for (int i = 0; i < next.length; i++) {
+                next[i] = 2 * i + 1 < level.length
+                        ? mergeTwo(level[2 * i], level[2 * i + 1], comparisons)
+                        : level[2 * i];
+            }
+            level = next;
+        }
+        counters.comparisonsPerElement = (double) comparisons[0] / totalSize;
+        bh.consume(level[0]);
+    }
+
+    private static int[] mergeTwo(int[] a, int[] b, long[] comparisons) {
+        int[] result = new int[a.length + b.length];
+        int i = 0, j = 0, k = 0;
+        while (i < a.length && j < b.length) {
+            comparisons[0]++;
+            result[k++] = a[i] <= b[j] ? a[i++] : b[j++];
+        }
+        while (i < a.length) result[k++] = a[i++];
+        while (j < b.length) result[k++] = b[j++];
+        return result;
+    }
+}
@@ -0,0 +1,92 @@
+package benchmarks;
+
+import algorithms.KeySort;
+import metrics.Metrics;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class KeySortBenchmark {
+
+    public record Trade(long timestamp, int accountId, double price) {}
+
+    @Param({"100000", "1000000", "10000000"})
+    private int recordCount;
+
+    private Trade[] data;
+    private Trade[] trades;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        data = new Trade[recordCount];
+        for (int i = 0; i < recordCount; i++) {
+            data[i] = new Trade(random.nextLong(), random.nextInt(recordCount), random.nextDouble() * 1000);
+        }
+        // Shuffle references so records are not laid out in key order on the heap
+        for (int i = recordCount - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Trade temp = data[i];
+            data[i] = data[j];
+            data[j] = temp;
+        }
+        trades = new Trade[recordCount];
+    }
+
+    @Setup(Level.Invocation)
+    public void resetArray() {
+        System.arraycopy(data, 0, trades, 0, recordCount);
+    }
+
+    @Benchmark
+    public void keySortByInt(Blackhole bh) {
+        Metrics metrics = new Metrics();
+        KeySort.sortByInt(trades, Trade::accountId, metrics);
+        bh.consume(trades);
+        bh.consume(metrics);
+    }
+
+    @Benchmark
+    public void arraysSortComparingInt(Blackhole bh) {
+        Arrays.sort(trades, Comparator.comparingInt(Trade::accountId));
+        bh.consume(trades);
+    }
+
+    @Benchmark
+    public void keySortByLong(Blackhole bh) {
+        Metrics metrics = new Metrics();
+        KeySort.sortByLong(trades, Trade::timestamp, metrics);
+        bh.consume(trades);
+        bh.consume(metrics);
+    }
+
+    @Benchmark
+    public void arraysSortComparingLong(Blackhole bh) {
+        Arrays.sort(trades, Comparator.comparingLong(Trade::timestamp));
+        bh.consume(trades);
+    }
+
+    @Benchmark
+    public void keySortByDouble(Blackhole bh) {
+        Metrics metrics = new Metrics();
+        KeySort.sortByDouble(trades, Trade::price, metrics);
+        bh.consume(trades);
+        bh.consume(metrics);
+    }
+
+    @Benchmark
+    public void arraysSortComparingDouble(Blackhole bh) {
+        Arrays.sort(trades, Comparator.comparingDouble(Trade::price));
+        bh.consume(trades);
+    }
+}
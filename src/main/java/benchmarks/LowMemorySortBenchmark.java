@@ -0,0 +1,56 @@
+package benchmarks;
+
+import algorithms.MergeSort;
+import metrics.Metrics;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class LowMemorySortBenchmark {
+
+    @Param({"100000", "1000000", "10000000"})
+    private int arraySize;
+
+    @Param({"RANDOM", "NEARLY_SORTED"})
+    private InputPattern inputPattern;
+
+    private int[] data;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        data = inputPattern.generate(arraySize, new Random(42));
+    }
+
+    // Peak scratch memory per sort, beyond the input array itself
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ScratchCounters {
+        public long scratchBytes;
+    }
+
+    @Benchmark
+    public void bufferedMergeSort(Blackhole bh, ScratchCounters counters) {
+        int[] array = data.clone();
+        Metrics metrics = new Metrics();
+        MergeSort.sort(array, metrics);
+        counters.scratchBytes = metrics.getAllocatedBytes();
+        bh.consume(array);
+    }
+
+    @Benchmark
+    public void lowMemoryMergeSort(Blackhole bh, ScratchCounters counters) {
+        int[] array = data.clone();
+        Metrics metrics = new Metrics();
+        MergeSort.sortLowMemory(array, metrics);
+        counters.scratchBytes = metrics.getAllocatedBytes();
+        bh.consume(array);
+    }
+}
@@ -0,0 +1,112 @@
+package benchmarks;
+
+import algorithms.MergeSort;
+import algorithms.QuickSort;
+import metrics.Metrics;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// On-heap and off-heap cases use separate states so that the 4B-element size, which no
+// int[] can hold, only applies to the MemorySegment benchmarks.
+// At 4B elements the segment and the merge sort scratch need 16 GB of native memory each.
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class OffHeapSortBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class HeapData {
+        @Param({"100000000"})
+        private int elementCount;
+
+        private int[] data;
+        private int[] array;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            Random random = new Random(42);
+            data = new int[elementCount];
+            for (int i = 0; i < elementCount; i++) {
+                data[i] = random.nextInt();
+            }
+            array = new int[elementCount];
+        }
+
+        @Setup(Level.Invocation)
+        public void reset() {
+            System.arraycopy(data, 0, array, 0, elementCount);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class NativeData {
+        @Param({"100000000", "4000000000"})
+        private long elementCount;
+
+        private Arena arena;
+        private MemorySegment segment;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            arena = Arena.ofShared();
+            segment = arena.allocate(elementCount * Integer.BYTES, Integer.BYTES);
+        }
+
+        // Regenerated rather than copied from a pristine segment to halve the native footprint
+        @Setup(Level.Invocation)
+        public void reset() {
+            long state = 42;
+            for (long i = 0; i < elementCount; i++) {
+                state ^= state << 13;
+                state ^= state >>> 7;
+                state ^= state << 17;
+                segment.setAtIndex(ValueLayout.JAVA_INT, i, (int) state);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            arena.close();
+        }
+    }
+
+    @Benchmark
+    public void mergeSortHeap(HeapData heap, Blackhole bh) {
+        Metrics metrics = new Metrics();
+        MergeSort.sort(heap.array, metrics);
+        bh.consume(heap.array);
+        bh.consume(metrics);
+    }
+
+    @Benchmark
+    public void quickSortHeap(HeapData heap, Blackhole bh) {
+        Metrics metrics = new Metrics();
+        QuickSort.sort(heap.array, metrics);
+        bh.consume(heap.array);
+        bh.consume(metrics);
+    }
+
+    @Benchmark
+    public void mergeSortOffHeap(NativeData data, Blackhole bh) {
+        Metrics metrics = new Metrics();
+        MergeSort.sort(data.segment, metrics);
+        bh.consume(data.segment);
+        bh.consume(metrics);
+    }
+
+    @Benchmark
+    public void quickSortOffHeap(NativeData data, Blackhole bh) {
+        Metrics metrics = new Metrics();
+        QuickSort.sort(data.segment, metrics);
+        bh.consume(data.segment);
+        bh.consume(metrics);
+    }
+}
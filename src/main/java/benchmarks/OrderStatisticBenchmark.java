@@ -0,0 +1,62 @@
+package benchmarks;
+
+import algorithms.OrderStatisticTree;
+import metrics.Metrics;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Leaderboard-style mixed workload on a preloaded tree; scores are operations per second.
+// Inserts and removes are balanced so the size stays near treeSize.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@OperationsPerInvocation(OrderStatisticBenchmark.OPERATIONS)
+public class OrderStatisticBenchmark {
+    static final int OPERATIONS = 100_000;
+
+    @Param({"10000", "1000000"})
+    private int treeSize;
+
+    // Share of operations that are select/rank queries; the rest split evenly into inserts and removes
+    @Param({"10", "50", "90"})
+    private int queryPercent;
+
+    private OrderStatisticTree tree;
+    private int[] opKinds;
+    private int[] operands;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        Random random = new Random(42);
+        tree = new OrderStatisticTree(new Metrics());
+        for (int i = 0; i < treeSize; i++) {
+            tree.insert(random.nextInt(treeSize * 10));
+        }
+        opKinds = new int[OPERATIONS];
+        operands = new int[OPERATIONS];
+        for (int i = 0; i < OPERATIONS; i++) {
+            int roll = random.nextInt(100);
+            opKinds[i] = roll < queryPercent ? roll % 2 : 2 + roll % 2;
+            operands[i] = random.nextInt(treeSize * 10);
+        }
+    }
+
+    @Benchmark
+    public void mixedWorkload(Blackhole bh) {
+        for (int i = 0; i < OPERATIONS; i++) {
+            int operand = operands[i];
+            switch (opKinds[i]) {
+                case 0 -> bh.consume(tree.select(operand % tree.size()));
+                case 1 -> bh.consume(tree.rank(operand));
+                case 2 -> tree.insert(operand);
+                default -> bh.consume(tree.remove(tree.select(operand % tree.size())));
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package benchmarks;
+
+import algorithms.MergeSort;
+import algorithms.QuickSort;
+import metrics.Metrics;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+// Strong scaling of the fork-join QuickSort: fixed input, pool size swept to 64 threads
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})  // 100M ints: data, working copy and partition buffer
+public class ParallelQuickSortBenchmark {
+
+    @Param({"10000000", "100000000"})
+    private int arraySize;
+
+    @Param({"1", "2", "4", "8", "16", "32", "64"})
+    private int threads;
+
+    private int[] data;
+    private int[] array;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        data = new int[arraySize];
+        for (int i = 0; i < arraySize; i++) {
+            data[i] = random.nextInt();
+        }
+        array = new int[arraySize];
+        pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Setup(Level.Invocation)
+    public void resetArray() {
+        System.arraycopy(data, 0, array, 0, arraySize);
+    }
+
+    @Benchmark
+    public void parallelQuickSort(Blackhole bh) {
+        Metrics metrics = new Metrics();
+        QuickSort.parallelSort(array, metrics, pool);
+        bh.consume(array);
+        bh.consume(metrics);
+    }
+
+    @Benchmark
+    public void parallelMergeSort(Blackhole bh) {
+        Metrics metrics = new Metrics();
+        MergeSort.parallelSort(array, metrics, pool);
+        bh.consume(array);
+        bh.consume(metrics);
+    }
+}
@@ -0,0 +1,72 @@
+package benchmarks;
+
+import algorithms.MergeSort;
+import algorithms.RadixSort;
+import metrics.Metrics;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx10g"})  // 500M ints: data, working copy and scratch buffer are 2 GB each
+public class RadixSortBenchmark {
+
+    @Param({"10000000", "100000000", "500000000"})
+    private int arraySize;
+
+    private int[] data;
+    private int[] array;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        data = new int[arraySize];
+        for (int i = 0; i < arraySize; i++) {
+            data[i] = random.nextInt();
+        }
+        array = new int[arraySize];
+    }
+
+    // Copying outside the measured region: at these sizes a clone would dominate the timing
+    @Setup(Level.Invocation)
+    public void resetArray() {
+        System.arraycopy(data, 0, array, 0, arraySize);
+    }
+
+    @Benchmark
+    public void radixSort(Blackhole bh) {
+        Metrics metrics = new Metrics();
+        RadixSort.sort(array, metrics);
+        bh.consume(array);
+        bh.consume(metrics);
+    }
+
+    @Benchmark
+    public void parallelRadixSort(Blackhole bh) {
+        Metrics metrics = new Metrics();
+        RadixSort.parallelSort(array, metrics);
+        bh.consume(array);
+        bh.consume(metrics);
+    }
+
+    @Benchmark
+    public void parallelMergeSort(Blackhole bh) {
+        Metrics metrics = new Metrics();
+        MergeSort.parallelSort(array, metrics);
+        bh.consume(array);
+        bh.consume(metrics);
+    }
+
+    @Benchmark
+    public void arraysParallelSort(Blackhole bh) {
+        Arrays.parallelSort(array);
+        bh.consume(array);
+    }
+}
@@ -0,0 +1,68 @@
+package benchmarks;
+
+import algorithms.SampleSort;
+import metrics.Metrics;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+// Sample sort vs Arrays.parallelSort with the pool size swept to 64 threads. Arrays.parallelSort
+// runs inside the same pool (its subtasks fork into the caller's pool); the raised common-pool
+// parallelism only keeps it from falling back to a sequential sort on small machines.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Djava.util.concurrent.ForkJoinPool.common.parallelism=64"})
+public class SampleSortBenchmark {
+
+    @Param({"100000000"})
+    private int arraySize;
+
+    @Param({"1", "2", "4", "8", "16", "32", "64"})
+    private int threads;
+
+    private int[] data;
+    private int[] array;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        data = new int[arraySize];
+        for (int i = 0; i < arraySize; i++) {
+            data[i] = random.nextInt();
+        }
+        array = new int[arraySize];
+        pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Setup(Level.Invocation)
+    public void resetArray() {
+        System.arraycopy(data, 0, array, 0, arraySize);
+    }
+
+    @Benchmark
+    public void sampleSort(Blackhole bh) {
+        Metrics metrics = new Metrics();
+        SampleSort.parallelSort(array, metrics, pool);
+        bh.consume(array);
+        bh.consume(metrics);
+    }
+
+    @Benchmark
+    public void arraysParallelSort(Blackhole bh) {
+        pool.submit(() -> Arrays.parallelSort(array)).join();
+        bh.consume(array);
+    }
+}
@@ -0,0 +1,63 @@
+package benchmarks;
+
+import algorithms.ClosestPair;
+import algorithms.MergeSort;
+import metrics.Metrics;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// High-rate small calls with and without the scratch arena. Run with -prof gc and compare
+// gc.alloc.rate.norm (bytes per op) between the *Pooled and *Unpooled variants.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ScratchArenaBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    private int[] data;
+    private ClosestPair.Point[] points;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        data = InputPattern.RANDOM.generate(size, random);
+        points = new ClosestPair.Point[size];
+        for (int i = 0; i < size; i++) {
+            points[i] = new ClosestPair.Point(random.nextDouble() * 1000, random.nextDouble() * 1000);
+        }
+    }
+
+    @Benchmark
+    public void mergeSortPooled(Blackhole bh) {
+        int[] array = data.clone();
+        MergeSort.sort(array, new Metrics());
+        bh.consume(array);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = "-Dalgorithms.scratchArena=false")
+    public void mergeSortUnpooled(Blackhole bh) {
+        int[] array = data.clone();
+        MergeSort.sort(array, new Metrics());
+        bh.consume(array);
+    }
+
+    @Benchmark
+    public double closestPairPooled() {
+        return ClosestPair.findClosestPair(points, new Metrics());
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = "-Dalgorithms.scratchArena=false")
+    public double closestPairUnpooled() {
+        return ClosestPair.findClosestPair(points, new Metrics());
+    }
+}
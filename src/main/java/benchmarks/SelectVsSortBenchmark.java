@@ -20,15 +20,24 @@ public class SelectVsSortBenchmark {
     @Param({"100", "1000", "10000", "50000"})
     private int arraySize;
 
+    // Duplicate-heavy inputs exercise the fat-pivot path of the selection
+    @Param({"RANDOM", "FEW_DISTINCT", "ALL_EQUAL"})
+    private InputPattern distribution;
+
     private int[] data;
+    private long[] longData;
+    private double[] doubleData;
     private Random random;
 
     @Setup(Level.Iteration)
     public void setup() {
         random = new Random(42);
-        data = new int[arraySize];
+        data = distribution.generate(arraySize, random);
+        longData = new long[arraySize];
+        doubleData = new double[arraySize];
         for (int i = 0; i < arraySize; i++) {
-            data[i] = random.nextInt(arraySize * 10);
+            longData[i] = 1_700_000_000_000L + data[i];
+            doubleData[i] = data[i] / 7.0;
         }
     }
 
@@ -42,6 +51,23 @@ public class SelectVsSortBenchmark {
         bh.consume(metrics);
     }
 
+    @Benchmark
+    public void deterministicSelectMedianLong(Blackhole bh) {
+        long[] array = longData.clone();
+        Metrics metrics = new Metrics();
+        long result = DeterministicSelect.select(array, arraySize / 2, metrics);
+        bh.consume(result);
+        bh.consume(metrics);
+    }
+
+    @Benchmark
+    public void deterministicSelectMedianDouble(Blackhole bh) {
+        Metrics metrics = new Metrics();
+        double result = DeterministicSelect.select(doubleData, arraySize / 2, metrics);
+        bh.consume(result);
+        bh.consume(metrics);
+    }
+
     @Benchmark
     public void sortThenSelectMedian(Blackhole bh) {
         int[] array = data.clone();
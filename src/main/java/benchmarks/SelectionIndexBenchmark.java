@@ -0,0 +1,64 @@
+package benchmarks;
+
+import algorithms.DeterministicSelect;
+import algorithms.SelectionIndex;
+import metrics.Metrics;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Cumulative cost of QUERIES random-k selections against one array: a cracking index,
+// an independent select on a fresh clone per query, and a single sort followed by lookups
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SelectionIndexBenchmark {
+    private static final int QUERIES = 10_000;
+
+    @Param({"10000", "100000"})
+    private int arraySize;
+
+    private int[] data;
+    private int[] ks;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        data = InputPattern.RANDOM.generate(arraySize, random);
+        ks = random.ints(QUERIES, 0, arraySize).toArray();
+    }
+
+    @Benchmark
+    public void selectionIndex(Blackhole bh) {
+        Metrics metrics = new Metrics();
+        SelectionIndex index = new SelectionIndex(data, metrics);
+        for (int k : ks) {
+            bh.consume(index.select(k));
+        }
+        bh.consume(metrics);
+    }
+
+    @Benchmark
+    public void independentSelects(Blackhole bh) {
+        Metrics metrics = new Metrics();
+        for (int k : ks) {
+            bh.consume(DeterministicSelect.select(data.clone(), k, metrics));
+        }
+        bh.consume(metrics);
+    }
+
+    @Benchmark
+    public void sortOnce(Blackhole bh) {
+        int[] sorted = data.clone();
+        Arrays.sort(sorted);
+        for (int k : ks) {
+            bh.consume(sorted[k]);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package benchmarks;
+
+import algorithms.DeterministicSelect;
+import algorithms.MergeSort;
+import algorithms.QuickSort;
+import metrics.Metrics;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Scalar vs Vector API kernels on the SortingBenchmark sizes. Both variants fork with the
+// incubator module resolved so the only difference is -Dalgorithms.simd.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector", "-Dalgorithms.simd=false"})
+public class SimdBenchmark {
+
+    @Param({"100", "1000", "10000", "50000"})
+    private int arraySize;
+
+    private int[] data;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        data = InputPattern.RANDOM.generate(arraySize, new Random(42));
+    }
+
+    @Benchmark
+    public void quickSortScalar(Blackhole bh) {
+        int[] array = data.clone();
+        QuickSort.sort(array, new Metrics());
+        bh.consume(array);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector", "-Dalgorithms.simd=true"})
+    public void quickSortVector(Blackhole bh) {
+        int[] array = data.clone();
+        QuickSort.sort(array, new Metrics());
+        bh.consume(array);
+    }
+
+    @Benchmark
+    public void mergeSortScalar(Blackhole bh) {
+        int[] array = data.clone();
+        MergeSort.sort(array, new Metrics());
+        bh.consume(array);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector", "-Dalgorithms.simd=true"})
+    public void mergeSortVector(Blackhole bh) {
+        int[] array = data.clone();
+        MergeSort.sort(array, new Metrics());
+        bh.consume(array);
+    }
+
+    @Benchmark
+    public int selectScalar() {
+        return DeterministicSelect.select(data.clone(), arraySize / 2, new Metrics());
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector", "-Dalgorithms.simd=true"})
+    public int selectVector() {
+        return DeterministicSelect.select(data.clone(), arraySize / 2, new Metrics());
+    }
+}
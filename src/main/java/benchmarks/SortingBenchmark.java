@@ -22,25 +22,71 @@ public class SortingBenchmark {
     @Param({"100", "1000", "10000", "50000"})
     private int arraySize;
 
+    @Param({"RANDOM", "SORTED", "REVERSE_SORTED", "NEARLY_SORTED", "SAWTOOTH"})
+    private InputPattern inputPattern;
+
     private int[] data;
+    private long[] longData;
+    private double[] doubleData;
+    private float[] floatData;
     private int[] dataCopy;
     private Random random;
 
     @Setup(Level.Iteration)
     public void setup() {
         random = new Random(42);
-        data = new int[arraySize];
+        data = inputPattern.generate(arraySize, random);
+        // Same pattern in every primitive type; timestamps and scores get realistic magnitudes
+        longData = new long[arraySize];
+        doubleData = new double[arraySize];
+        floatData = new float[arraySize];
         for (int i = 0; i < arraySize; i++) {
-            data[i] = random.nextInt(arraySize * 10);
+            longData[i] = 1_700_000_000_000L + data[i];
+            doubleData[i] = data[i] / 7.0;
+            floatData[i] = data[i] / 7.0f;
         }
         dataCopy = data.clone();
     }
 
+    // Per-operation merge traffic and comparisons, reported next to the timing (inputs are fixed per iteration)
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class MergeCounters {
+        public long bytesMoved;
+        public long comparisons;
+
+        void record(Metrics metrics) {
+            bytesMoved = metrics.getElementMoves() * Integer.BYTES;
+            comparisons = metrics.getComparisons();
+        }
+    }
+
     @Benchmark
-    public void mergeSort(Blackhole bh) {
+    public void mergeSort(Blackhole bh, MergeCounters counters) {
         int[] array = data.clone();
         Metrics metrics = new Metrics();
         MergeSort.sort(array, metrics);
+        counters.record(metrics);
+        bh.consume(array);
+        bh.consume(metrics);
+    }
+
+    @Benchmark
+    public void mergeSortBottomUp(Blackhole bh, MergeCounters counters) {
+        int[] array = data.clone();
+        Metrics metrics = new Metrics();
+        MergeSort.sortBottomUp(array, metrics);
+        counters.record(metrics);
+        bh.consume(array);
+        bh.consume(metrics);
+    }
+
+    @Benchmark
+    public void naturalMergeSort(Blackhole bh, MergeCounters counters) {
+        int[] array = data.clone();
+        Metrics metrics = new Metrics();
+        MergeSort.naturalSort(array, metrics);
+        counters.record(metrics);
         bh.consume(array);
         bh.consume(metrics);
     }
@@ -54,6 +100,69 @@ public class SortingBenchmark {
         bh.consume(metrics);
     }
 
+    @Benchmark
+    public void quickSortBlockPartition(Blackhole bh) {
+        int[] array = data.clone();
+        Metrics metrics = new Metrics();
+        QuickSort.sortBlockPartition(array, metrics);
+        bh.consume(array);
+        bh.consume(metrics);
+    }
+
+    @Benchmark
+    public void mergeSortLong(Blackhole bh) {
+        long[] array = longData.clone();
+        Metrics metrics = new Metrics();
+        MergeSort.sort(array, metrics);
+        bh.consume(array);
+        bh.consume(metrics);
+    }
+
+    @Benchmark
+    public void mergeSortDouble(Blackhole bh) {
+        double[] array = doubleData.clone();
+        Metrics metrics = new Metrics();
+        MergeSort.sort(array, metrics);
+        bh.consume(array);
+        bh.consume(metrics);
+    }
+
+    @Benchmark
+    public void mergeSortFloat(Blackhole bh) {
+        float[] array = floatData.clone();
+        Metrics metrics = new Metrics();
+        MergeSort.sort(array, metrics);
+        bh.consume(array);
+        bh.consume(metrics);
+    }
+
+    @Benchmark
+    public void quickSortLong(Blackhole bh) {
+        long[] array = longData.clone();
+        Metrics metrics = new Metrics();
+        QuickSort.sort(array, metrics);
+        bh.consume(array);
+        bh.consume(metrics);
+    }
+
+    @Benchmark
+    public void quickSortDouble(Blackhole bh) {
+        double[] array = doubleData.clone();
+        Metrics metrics = new Metrics();
+        QuickSort.sort(array, metrics);
+        bh.consume(array);
+        bh.consume(metrics);
+    }
+
+    @Benchmark
+    public void quickSortFloat(Blackhole bh) {
+        float[] array = floatData.clone();
+        Metrics metrics = new Metrics();
+        QuickSort.sort(array, metrics);
+        bh.consume(array);
+        bh.consume(metrics);
+    }
+
     @Benchmark
     public void arraysSort(Blackhole bh) {
         int[] array = data.clone();
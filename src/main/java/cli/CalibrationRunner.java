@@ -0,0 +1,33 @@
+package cli;
+
+import algorithms.Calibrator;
+import util.TuningProfile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+public class CalibrationRunner {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length > 0 && (args[0].equals("-h") || args[0].equals("--help"))) {
+            System.out.println("Usage: java CalibrationRunner [profile_path] [array_size] [rounds]");
+            System.out.println("       profile_path defaults to " + TuningProfile.path());
+            return;
+        }
+
+        Path path = args.length > 0 ? Paths.get(args[0]) : TuningProfile.path();
+        int arraySize = args.length > 1 ? Integer.parseInt(args[1]) : 1 << 16;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+
+        long startTime = System.nanoTime();
+        Map<String, Integer> profile = new Calibrator(arraySize, rounds, ForkJoinPool.commonPool()).calibrate();
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+
+        TuningProfile.save(path, profile);
+        profile.forEach((key, value) -> System.out.printf("%-32s %d%n", key, value));
+        System.out.printf("Calibrated in %.1f s, profile written to %s%n", seconds, path.toAbsolutePath());
+    }
+}
@@ -0,0 +1,82 @@
+package cli;
+
+import distributed.SortCoordinator;
+import distributed.SortReport;
+import distributed.SortWorker;
+import metrics.Metrics;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class DistributedSortRunner {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 3 && args[0].equals("local")) {
+            runLocal(Integer.parseInt(args[1]), Integer.parseInt(args[2]));
+        } else if (args.length == 3 && args[0].equals("coordinator")) {
+            try (SortCoordinator coordinator = new SortCoordinator(Integer.parseInt(args[1]), Integer.parseInt(args[2]))) {
+                print(coordinator.run());
+            }
+        } else if (args.length >= 4 && args[0].equals("worker")) {
+            long seed = args.length > 4 ? Long.parseLong(args[4]) : 42;
+            int[] data = new Random(seed).ints(Integer.parseInt(args[3])).toArray();
+            SortWorker worker = new SortWorker(data, new Metrics());
+            worker.run(args[1], Integer.parseInt(args[2]));
+            System.out.printf("Worker %d: %d elements, %d bytes shuffled%n",
+                    worker.getPartition(), worker.getResult().length, worker.getBytesShuffled());
+        } else {
+            System.out.println("Usage: java DistributedSortRunner local <workers> <ints_per_worker>");
+            System.out.println("       java DistributedSortRunner coordinator <port> <workers>");
+            System.out.println("       java DistributedSortRunner worker <host> <port> <int_count> [seed]");
+        }
+    }
+
+    // Stand-in cluster: coordinator in this JVM, each worker in its own local JVM process
+    private static void runLocal(int workers, int intsPerWorker) throws IOException, InterruptedException {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        String classpath = System.getProperty("java.class.path");
+
+        try (SortCoordinator coordinator = new SortCoordinator(0, workers)) {
+            List<Process> processes = new ArrayList<>();
+            try {
+                for (int w = 0; w < workers; w++) {
+                    // Workers get this JVM's options (heap size, module flags) and their own seed
+                    List<String> command = new ArrayList<>();
+                    command.add(java);
+                    command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments());
+                    command.addAll(List.of("-cp", classpath, DistributedSortRunner.class.getName(),
+                            "worker", "localhost", String.valueOf(coordinator.getPort()),
+                            String.valueOf(intsPerWorker), String.valueOf(w)));
+                    processes.add(new ProcessBuilder(command).inheritIO().start());
+                }
+                SortReport report = coordinator.run();
+                for (Process process : processes) {
+                    if (process.waitFor() != 0) {
+                        throw new IOException("Worker process exited with " + process.exitValue());
+                    }
+                }
+                print(report);
+            } catch (IOException | InterruptedException | RuntimeException e) {
+                // Don't leave workers behind blocked on a run that has already failed
+                for (Process process : processes) {
+                    process.destroyForcibly();
+                }
+                throw e;
+            }
+        }
+    }
+
+    private static void print(SortReport report) {
+        System.out.printf("Sorted %d ints on %d workers in %.2f s: %.1f MB/s (%.0f ints/s)%n",
+                report.getElements(), report.getWorkers(), report.getElapsedNanos() / 1e9,
+                report.megabytesPerSecond(), report.elementsPerSecond());
+        for (int w = 0; w < report.getWorkers(); w++) {
+            System.out.printf("  worker %d: partition of %d ints, %.1f MB shuffled%n", w,
+                    report.getPartitionSize(w), report.getBytesShuffled(w) / (1024.0 * 1024.0));
+        }
+    }
+}
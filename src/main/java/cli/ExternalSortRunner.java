@@ -0,0 +1,54 @@
+package cli;
+
+import algorithms.ExternalMergeSort;
+import metrics.Metrics;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+
+public class ExternalSortRunner {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 3 && args[0].equals("--generate")) {
+            generate(Paths.get(args[1]), Long.parseLong(args[2]));
+            return;
+        }
+        if (args.length < 2) {
+            System.out.println("Usage: java ExternalSortRunner <input.bin> <output.bin> [run_length]");
+            System.out.println("       java ExternalSortRunner --generate <output.bin> <int_count>");
+            return;
+        }
+
+        Path input = Paths.get(args[0]);
+        Path output = Paths.get(args[1]);
+        int runLength = args.length > 2 ? Integer.parseInt(args[2]) : ExternalMergeSort.DEFAULT_RUN_LENGTH;
+
+        long bytes = Files.size(input);
+        Metrics metrics = new Metrics();
+
+        long startTime = System.nanoTime();
+        ExternalMergeSort.sort(input, output, runLength, metrics);
+        long endTime = System.nanoTime();
+
+        double seconds = (endTime - startTime) / 1e9;
+        double megabytes = bytes / (1024.0 * 1024.0);
+        System.out.printf("Sorted %d ints (%.1f MB) in %.2f s: %.1f MB/s%n",
+                bytes / Integer.BYTES, megabytes, seconds, megabytes / seconds);
+    }
+
+    // Writes random big-endian ints, the format ExternalMergeSort reads
+    private static void generate(Path output, long count) throws IOException {
+        Random random = new Random(42);
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(output), 1 << 20))) {
+            for (long i = 0; i < count; i++) {
+                out.writeInt(random.nextInt());
+            }
+        }
+    }
+}
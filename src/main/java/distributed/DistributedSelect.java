@@ -0,0 +1,119 @@
+package distributed;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// k-th smallest element over sharded data without gathering it. Each round broadcasts the
+// weighted median of the shards' local medians as pivot, sums the shards' less/equal counts,
+// and either finds k in the equal band or has every shard drop the side that cannot hold it.
+// The weighted median discards at least a quarter of the candidates per round, so there are
+// O(log n) rounds and O(rounds x shards) numbers on the wire. Every broadcast goes to all
+// shards at once, one virtual thread each, so a round costs about one round trip however
+// many shards there are; shards must therefore not share unsynchronized state such as a Metrics.
+public class DistributedSelect {
+    private final List<? extends Shard> shards;
+    private int rounds;
+    private long messages;
+
+    public DistributedSelect(List<? extends Shard> shards) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard required");
+        }
+        this.shards = shards;
+    }
+
+    public int getRounds() { return rounds; }
+    // Requests plus responses exchanged by the last select
+    public long getMessages() { return messages; }
+
+    public int select(long k) throws IOException {
+        rounds = 0;
+        messages = 0;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Shard.Window> windows = broadcast(executor, Shard::reset);
+            long total = 0;
+            for (Shard.Window window : windows) {
+                total += window.size();
+            }
+            if (k < 0 || k >= total) {
+                throw new IllegalArgumentException("k must be in [0, total size-1]");
+            }
+
+            while (true) {
+                rounds++;
+                int pivot = weightedMedian(windows);
+                long less = 0, equal = 0;
+                for (Shard.Split split : broadcast(executor, shard -> shard.partition(pivot))) {
+                    less += split.less();
+                    equal += split.equal();
+                }
+
+                if (k >= less && k < less + equal) {
+                    return pivot;
+                }
+                boolean keepLess = k < less;
+                if (!keepLess) {
+                    k -= less + equal;
+                }
+                windows = broadcast(executor, shard -> shard.narrow(keepLess));
+            }
+        }
+    }
+
+    private interface ShardCall<T> {
+        T apply(Shard shard) throws IOException;
+    }
+
+    // Sends one request to every shard concurrently and returns the responses in shard order;
+    // the first failure is rethrown once all the calls have been waited for
+    private <T> List<T> broadcast(ExecutorService executor, ShardCall<T> call) throws IOException {
+        List<Future<T>> futures = new ArrayList<>(shards.size());
+        for (Shard shard : shards) {
+            futures.add(executor.submit(() -> call.apply(shard)));
+        }
+        messages += 2L * shards.size();
+
+        List<T> responses = new ArrayList<>(shards.size());
+        Throwable failure = null;
+        for (Future<T> future : futures) {
+            try {
+                responses.add(future.get());
+            } catch (ExecutionException e) {
+                if (failure == null) failure = e.getCause();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for shards");
+            }
+        }
+        if (failure instanceof IOException e) throw e;
+        if (failure instanceof RuntimeException e) throw e;
+        if (failure instanceof Error e) throw e;
+        if (failure != null) throw new IOException(failure);
+        return responses;
+    }
+
+    // Median of the local medians, each weighted by its shard's candidate count
+    private static int weightedMedian(List<Shard.Window> windows) {
+        Shard.Window[] nonEmpty = windows.stream().filter(w -> w.size() > 0)
+                .sorted((a, b) -> Integer.compare(a.median(), b.median()))
+                .toArray(Shard.Window[]::new);
+        long total = 0;
+        for (Shard.Window window : nonEmpty) {
+            total += window.size();
+        }
+        long seen = 0;
+        for (Shard.Window window : nonEmpty) {
+            seen += window.size();
+            if (2 * seen >= total) {
+                return window.median();
+            }
+        }
+        throw new IllegalStateException("No candidates left");
+    }
+}
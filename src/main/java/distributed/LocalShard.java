@@ -0,0 +1,64 @@
+package distributed;
+
+import algorithms.DeterministicSelect;
+import metrics.Metrics;
+import util.ArrayUtils;
+
+// In-process shard over its own copy of the data. The active window is data[lo, hi);
+// partitioning leaves [lo, lessEnd) < pivot, [lessEnd, greaterStart) == pivot and the rest above.
+public class LocalShard implements Shard {
+    private final int[] data;
+    private final Metrics metrics;
+    private int lo, hi;
+    private int lessEnd, greaterStart;
+
+    public LocalShard(int[] data, Metrics metrics) {
+        this.data = data.clone();
+        this.metrics = metrics;
+        metrics.incrementAllocations();
+        this.hi = this.data.length;
+    }
+
+    @Override
+    public Window reset() {
+        lo = 0;
+        hi = data.length;
+        return window();
+    }
+
+    @Override
+    public Split partition(int pivot) {
+        // Dutch national flag over the active window
+        int less = lo, i = lo, greater = hi;
+        while (i < greater) {
+            int value = data[i];
+            metrics.incrementComparisons();
+            if (value < pivot) {
+                ArrayUtils.swap(data, less++, i++);
+            } else if (value > pivot) {
+                ArrayUtils.swap(data, i, --greater);
+            } else {
+                i++;
+            }
+        }
+        lessEnd = less;
+        greaterStart = greater;
+        return new Split(lessEnd - lo, greaterStart - lessEnd);
+    }
+
+    @Override
+    public Window narrow(boolean keepLess) {
+        if (keepLess) {
+            hi = lessEnd;
+        } else {
+            lo = greaterStart;
+        }
+        return window();
+    }
+
+    private Window window() {
+        int size = hi - lo;
+        if (size == 0) return new Window(0, 0);
+        return new Window(size, DeterministicSelect.selectRange(data, lo, hi, size / 2, metrics));
+    }
+}
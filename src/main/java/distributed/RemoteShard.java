@@ -0,0 +1,51 @@
+package distributed;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+
+// Client side of ShardServer: every call is one request and one response message
+public class RemoteShard implements Shard, Closeable {
+    private final Socket socket;
+    private final DataInputStream in;
+    private final DataOutputStream out;
+
+    public RemoteShard(String host, int port) throws IOException {
+        this.socket = new Socket(host, port);
+        socket.setTcpNoDelay(true); // tiny request/response messages
+        this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+    }
+
+    @Override
+    public Window reset() throws IOException {
+        out.writeInt(ShardServer.RESET);
+        out.flush();
+        return new Window(in.readInt(), in.readInt());
+    }
+
+    @Override
+    public Split partition(int pivot) throws IOException {
+        out.writeInt(ShardServer.PARTITION);
+        out.writeInt(pivot);
+        out.flush();
+        return new Split(in.readInt(), in.readInt());
+    }
+
+    @Override
+    public Window narrow(boolean keepLess) throws IOException {
+        out.writeInt(ShardServer.NARROW);
+        out.writeInt(keepLess ? 1 : 0);
+        out.flush();
+        return new Window(in.readInt(), in.readInt());
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+}
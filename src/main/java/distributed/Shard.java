@@ -0,0 +1,25 @@
+package distributed;
+
+import java.io.IOException;
+
+// One partition of a sharded data set, as seen by DistributedSelect. A shard keeps an
+// active window of candidates; each call narrows or summarizes it and returns O(1) numbers.
+public interface Shard {
+
+    // Active window size and its median (undefined when size is 0)
+    record Window(int size, int median) {
+    }
+
+    // Active elements below and equal to a pivot
+    record Split(int less, int equal) {
+    }
+
+    // Makes every element a candidate again
+    Window reset() throws IOException;
+
+    // Three-way partitions the active window around pivot
+    Split partition(int pivot) throws IOException;
+
+    // Keeps only the part below (or above) the pivot of the last partition call
+    Window narrow(boolean keepLess) throws IOException;
+}
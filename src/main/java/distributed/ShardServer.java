@@ -0,0 +1,68 @@
+package distributed;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+
+// Serves one Shard to a RemoteShard client over a socket. Each request is an opcode plus
+// at most one int, each response two ints.
+public class ShardServer implements Closeable {
+    static final int RESET = 1;
+    static final int PARTITION = 2;
+    static final int NARROW = 3;
+
+    private final ServerSocket server;
+    private final Shard shard;
+
+    public ShardServer(int port, Shard shard) throws IOException {
+        this.server = new ServerSocket(port);
+        this.shard = shard;
+    }
+
+    public int getPort() {
+        return server.getLocalPort();
+    }
+
+    // Handles one client until it disconnects
+    public void serve() throws IOException {
+        try (Socket socket = server.accept()) {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            while (true) {
+                int opcode;
+                try {
+                    opcode = in.readInt();
+                } catch (EOFException e) {
+                    return;
+                }
+                switch (opcode) {
+                    case RESET -> write(out, shard.reset());
+                    case PARTITION -> {
+                        Shard.Split split = shard.partition(in.readInt());
+                        out.writeInt(split.less());
+                        out.writeInt(split.equal());
+                    }
+                    case NARROW -> write(out, shard.narrow(in.readInt() != 0));
+                    default -> throw new IOException("Unknown opcode " + opcode);
+                }
+                out.flush();
+            }
+        }
+    }
+
+    private static void write(DataOutputStream out, Shard.Window window) throws IOException {
+        out.writeInt(window.size());
+        out.writeInt(window.median());
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.close();
+    }
+}
@@ -0,0 +1,127 @@
+package distributed;
+
+import algorithms.KWayMerge;
+import metrics.Metrics;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.TimeUnit;
+
+// Drives a distributed sample sort over a fixed number of SortWorkers:
+//   1. workers register with their shuffle port and sort locally
+//   2. each sends evenly spaced samples; the coordinator merges them and picks splitters
+//   3. splitters and the peer port table are broadcast; workers shuffle and k-way merge
+//   4. workers report partition bounds and bytes sent, which are checked for global order
+// Only samples and splitters pass through the coordinator; the data moves worker to worker.
+// Every accept and read gives up after the timeout, so a worker that dies or hangs fails the
+// run instead of blocking it; closing the sockets then fails the remaining workers too.
+public class SortCoordinator implements Closeable {
+    // Samples per worker per partition
+    static final int OVERSAMPLING = 64;
+    // Longest wait for any one step, which includes a worker's local sort and final merge
+    public static final int DEFAULT_TIMEOUT_MILLIS = (int) TimeUnit.MINUTES.toMillis(5);
+
+    private final ServerSocket server;
+    private final int workers;
+    private final int timeoutMillis;
+
+    public SortCoordinator(int port, int workers) throws IOException {
+        this(port, workers, DEFAULT_TIMEOUT_MILLIS);
+    }
+
+    public SortCoordinator(int port, int workers, int timeoutMillis) throws IOException {
+        if (workers < 1) {
+            throw new IllegalArgumentException("workers must be positive");
+        }
+        if (timeoutMillis < 1) {
+            throw new IllegalArgumentException("timeout must be positive");
+        }
+        this.server = new ServerSocket(port);
+        server.setSoTimeout(timeoutMillis);
+        this.workers = workers;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public int getPort() {
+        return server.getLocalPort();
+    }
+
+    public SortReport run() throws IOException {
+        Socket[] sockets = new Socket[workers];
+        DataInputStream[] in = new DataInputStream[workers];
+        DataOutputStream[] out = new DataOutputStream[workers];
+        try {
+            int[] ports = new int[workers];
+            for (int w = 0; w < workers; w++) {
+                sockets[w] = server.accept();
+                sockets[w].setSoTimeout(timeoutMillis);
+                in[w] = new DataInputStream(new BufferedInputStream(sockets[w].getInputStream()));
+                out[w] = new DataOutputStream(new BufferedOutputStream(sockets[w].getOutputStream()));
+                ports[w] = in[w].readInt();
+            }
+            long start = System.nanoTime();
+            for (int w = 0; w < workers; w++) {
+                out[w].writeInt(w);
+                out[w].writeInt(workers);
+                out[w].flush();
+            }
+
+            int[][] samples = new int[workers][];
+            long elements = 0;
+            for (int w = 0; w < workers; w++) {
+                elements += in[w].readLong();
+                samples[w] = Wire.readInts(in[w]);
+            }
+            int[] splitters = chooseSplitters(KWayMerge.merge(samples, new Metrics()), workers);
+
+            for (int w = 0; w < workers; w++) {
+                Wire.writeInts(out[w], splitters, 0, splitters.length);
+                Wire.writeInts(out[w], ports, 0, ports.length);
+                out[w].flush();
+            }
+
+            long[] bytesShuffled = new long[workers];
+            int[] partitionSizes = new int[workers];
+            long previousMax = Long.MIN_VALUE;
+            for (int w = 0; w < workers; w++) {
+                partitionSizes[w] = in[w].readInt();
+                bytesShuffled[w] = in[w].readLong();
+                int min = in[w].readInt(), max = in[w].readInt();
+                if (partitionSizes[w] > 0) {
+                    if (min < previousMax) {
+                        throw new IOException("Partition " + w + " overlaps its predecessor");
+                    }
+                    previousMax = max;
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+            return new SortReport(elements, elapsed, bytesShuffled, partitionSizes);
+        } finally {
+            for (Socket socket : sockets) {
+                if (socket != null) socket.close();
+            }
+        }
+    }
+
+    // workers - 1 splitters at even ranks of the merged sample; partition i then receives
+    // the values in (splitter[i-1], splitter[i]]
+    static int[] chooseSplitters(int[] sortedSample, int workers) {
+        int[] splitters = new int[workers - 1];
+        for (int i = 1; i < workers; i++) {
+            splitters[i - 1] = sortedSample.length == 0 ? 0
+                    : sortedSample[(int) ((long) sortedSample.length * i / workers)];
+        }
+        return splitters;
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.close();
+    }
+}
@@ -0,0 +1,32 @@
+package distributed;
+
+// Outcome of one distributed sort, as seen by the coordinator
+public class SortReport {
+    private final long elements;
+    private final long elapsedNanos;
+    private final long[] bytesShuffled;
+    private final int[] partitionSizes;
+
+    SortReport(long elements, long elapsedNanos, long[] bytesShuffled, int[] partitionSizes) {
+        this.elements = elements;
+        this.elapsedNanos = elapsedNanos;
+        this.bytesShuffled = bytesShuffled;
+        this.partitionSizes = partitionSizes;
+    }
+
+    public long getElements() { return elements; }
+    public long getElapsedNanos() { return elapsedNanos; }
+    public int getWorkers() { return partitionSizes.length; }
+    // Bytes worker i sent to its peers during the shuffle
+    public long getBytesShuffled(int worker) { return bytesShuffled[worker]; }
+    // Elements worker i holds after the sort; partition i precedes partition i+1
+    public int getPartitionSize(int worker) { return partitionSizes[worker]; }
+
+    public double elementsPerSecond() {
+        return elements / (elapsedNanos / 1e9);
+    }
+
+    public double megabytesPerSecond() {
+        return elements * Integer.BYTES / (1024.0 * 1024.0) / (elapsedNanos / 1e9);
+    }
+}
@@ -0,0 +1,196 @@
+package distributed;
+
+import algorithms.KWayMerge;
+import algorithms.MergeSort;
+import metrics.Metrics;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+// One participant of the distributed sample sort (see SortCoordinator). Holds a local
+// slice of the data set and, once run() returns, the sorted partition it is responsible for.
+// Connects, accepts and reads time out like the coordinator's, and a failure on a receiving
+// thread is rethrown by run() once the threads are joined.
+public class SortWorker {
+    private final int[] data;
+    private final Metrics metrics;
+    private final int timeoutMillis;
+    private int partition = -1;
+    private int[] result;
+    private long bytesShuffled;
+
+    public SortWorker(int[] data, Metrics metrics) {
+        this(data, metrics, SortCoordinator.DEFAULT_TIMEOUT_MILLIS);
+    }
+
+    public SortWorker(int[] data, Metrics metrics, int timeoutMillis) {
+        if (timeoutMillis < 1) {
+            throw new IllegalArgumentException("timeout must be positive");
+        }
+        this.data = data;
+        this.metrics = metrics;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    // Position of this worker's result in the global order, assigned by the coordinator
+    public int getPartition() {
+        return partition;
+    }
+
+    public int[] getResult() {
+        return result;
+    }
+
+    public long getBytesShuffled() {
+        return bytesShuffled;
+    }
+
+    public void run(String host, int coordinatorPort) throws IOException {
+        try (ServerSocket shuffleServer = new ServerSocket(0);
+             Socket coordinator = connect(host, coordinatorPort)) {
+            shuffleServer.setSoTimeout(timeoutMillis);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(coordinator.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(coordinator.getOutputStream()));
+            out.writeInt(shuffleServer.getLocalPort());
+            out.flush();
+            int id = in.readInt();
+            int workers = in.readInt();
+            partition = id;
+
+            MergeSort.sort(data, metrics);
+            out.writeLong(data.length);
+            int[] sample = sample(data, workers * SortCoordinator.OVERSAMPLING);
+            Wire.writeInts(out, sample, 0, sample.length);
+            out.flush();
+
+            int[] splitters = Wire.readInts(in);
+            int[] ports = Wire.readInts(in);
+
+            // Local data is sorted, so each destination gets one contiguous slice
+            int[] bounds = new int[workers + 1];
+            for (int w = 1; w < workers; w++) {
+                bounds[w] = upperBound(data, splitters[w - 1]);
+            }
+            bounds[workers] = data.length;
+
+            int[][] runs = new int[workers][];
+            runs[id] = Arrays.copyOfRange(data, bounds[id], bounds[id + 1]);
+            AtomicReference<IOException> receiveFailure = new AtomicReference<>();
+            Thread receiver = startReceiver(shuffleServer, workers - 1, runs, receiveFailure);
+            for (int w = 0; w < workers; w++) {
+                if (w == id) continue;
+                try (Socket peer = connect(host, ports[w])) {
+                    DataOutputStream peerOut = new DataOutputStream(new BufferedOutputStream(peer.getOutputStream()));
+                    peerOut.writeInt(id);
+                    bytesShuffled += Integer.BYTES + Wire.writeInts(peerOut, data, bounds[w], bounds[w + 1]);
+                    peerOut.flush();
+                }
+            }
+            join(receiver);
+            if (receiveFailure.get() != null) {
+                throw receiveFailure.get();
+            }
+            for (int w = 0; w < workers; w++) {
+                if (runs[w] == null) {
+                    throw new IOException("No shuffle data received from worker " + w);
+                }
+            }
+
+            result = KWayMerge.merge(runs, metrics);
+            out.writeInt(result.length);
+            out.writeLong(bytesShuffled);
+            out.writeInt(result.length > 0 ? result[0] : 0);
+            out.writeInt(result.length > 0 ? result[result.length - 1] : 0);
+            out.flush();
+        }
+    }
+
+    private Socket connect(String host, int port) throws IOException {
+        Socket socket = new Socket();
+        try {
+            socket.connect(new InetSocketAddress(host, port), timeoutMillis);
+            socket.setSoTimeout(timeoutMillis);
+            return socket;
+        } catch (IOException e) {
+            socket.close();
+            throw e;
+        }
+    }
+
+    // Accepts one connection per peer; each delivers its sender id and one run. The first
+    // failure of the receiver or a reader is kept in failure. The threads are daemons, so
+    // readers still waiting out their timeout after run() failed don't keep the JVM alive
+    private Thread startReceiver(ServerSocket server, int peers, int[][] runs,
+                                 AtomicReference<IOException> failure) {
+        Thread receiver = new Thread(() -> {
+            List<Thread> readers = new ArrayList<>();
+            try {
+                for (int p = 0; p < peers; p++) {
+                    Socket socket = server.accept();
+                    socket.setSoTimeout(timeoutMillis);
+                    Thread reader = new Thread(() -> {
+                        try (socket) {
+                            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+                            int sender = in.readInt();
+                            int[] run = Wire.readInts(in);
+                            runs[sender] = run; // published to the worker by the joins
+                        } catch (IOException e) {
+                            failure.compareAndSet(null, e);
+                        }
+                    });
+                    reader.setDaemon(true);
+                    reader.start();
+                    readers.add(reader);
+                }
+            } catch (IOException e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                for (Thread reader : readers) {
+                    join(reader);
+                }
+            }
+        });
+        receiver.setDaemon(true);
+        receiver.start();
+        return receiver;
+    }
+
+    private static int[] sample(int[] sorted, int count) {
+        if (sorted.length == 0) return new int[0];
+        int[] sample = new int[Math.min(count, sorted.length)];
+        for (int i = 0; i < sample.length; i++) {
+            sample[i] = sorted[(int) ((long) sorted.length * i / sample.length)];
+        }
+        return sample;
+    }
+
+    // First index whose value is greater than key
+    private static int upperBound(int[] sorted, int key) {
+        int lo = 0, hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid] <= key) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private static void join(Thread thread) {
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during shuffle", e);
+        }
+    }
+}
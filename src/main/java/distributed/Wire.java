@@ -0,0 +1,45 @@
+package distributed;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+// Length-prefixed big-endian int arrays, converted in chunks rather than one writeInt per element
+final class Wire {
+    private static final int CHUNK_INTS = 1 << 14;
+
+    private Wire() {
+    }
+
+    // Returns the number of bytes written, header included
+    static long writeInts(DataOutputStream out, int[] values, int from, int to) throws IOException {
+        out.writeInt(to - from);
+        byte[] chunk = new byte[CHUNK_INTS * Integer.BYTES];
+        ByteBuffer view = ByteBuffer.wrap(chunk);
+        for (int i = from; i < to; i += CHUNK_INTS) {
+            int length = Math.min(CHUNK_INTS, to - i);
+            view.clear();
+            view.asIntBuffer().put(values, i, length);
+            out.write(chunk, 0, length * Integer.BYTES);
+        }
+        return Integer.BYTES + (long) (to - from) * Integer.BYTES;
+    }
+
+    static int[] readInts(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("Negative array length on the wire: " + count);
+        }
+        int[] values = new int[count];
+        byte[] chunk = new byte[CHUNK_INTS * Integer.BYTES];
+        ByteBuffer view = ByteBuffer.wrap(chunk);
+        for (int i = 0; i < count; i += CHUNK_INTS) {
+            int length = Math.min(CHUNK_INTS, count - i);
+            in.readFully(chunk, 0, length * Integer.BYTES);
+            view.clear();
+            view.asIntBuffer().get(values, i, length);
+        }
+        return values;
+    }
+}
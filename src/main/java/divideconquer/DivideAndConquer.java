@@ -0,0 +1,24 @@
+package divideconquer;
+
+import metrics.Metrics;
+
+import java.util.List;
+
+// Callbacks of a divide-and-conquer algorithm over problems of type P with results of type R.
+// DivideAndConquerRunner owns the recursion: problems at or below its cutoff go to solveDirectly,
+// larger ones are divided, their subproblems solved (possibly in parallel) and the results combined.
+// Algorithms with nothing to combine implement InPlaceDivideAndConquer instead
+public interface DivideAndConquer<P, R> {
+    int size(P problem);
+
+    // Base case, also used for every problem at or below the runner's cutoff, so this is
+    // where the algorithm's tuned sequential kernel belongs
+    R solveDirectly(P problem, Metrics metrics);
+
+    // May return no subproblems when divide already settled the answer (e.g. selection hit the pivot).
+    // Subproblems solved in parallel must touch disjoint state
+    List<P> divide(P problem, Metrics metrics);
+
+    // Results arrive in the order divide returned the subproblems
+    R combine(P problem, List<R> results, Metrics metrics);
+}
@@ -0,0 +1,104 @@
+package divideconquer;
+
+import metrics.Metrics;
+import metrics.RecursionTracker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// Drives a DivideAndConquer algorithm sequentially or on a fork-join pool. Every subproblem
+// is recorded in Metrics.getLevelNodes() at its depth (the root is depth 0), and each divide
+// step counts as one level of recursion, so both modes report the same shape
+public final class DivideAndConquerRunner<P, R> {
+    private final DivideAndConquer<P, R> algorithm;
+    private final int cutoff;
+
+    // Problems of size <= cutoff go to solveDirectly; in parallel mode this is also the grain,
+    // since only subproblems above it are forked
+    public DivideAndConquerRunner(DivideAndConquer<P, R> algorithm, int cutoff) {
+        if (cutoff < 1) {
+            throw new IllegalArgumentException("Cutoff must be positive");
+        }
+        this.algorithm = algorithm;
+        this.cutoff = cutoff;
+    }
+
+    public int getCutoff() { return cutoff; }
+
+    public R solve(P problem, Metrics metrics) {
+        return solve(problem, metrics, false);
+    }
+
+    // Each forked subproblem records into a child of the caller's metrics, merged back after join
+    public R solveParallel(P problem, Metrics metrics, ForkJoinPool pool) {
+        return pool.invoke(new SolveTask(problem, metrics));
+    }
+
+    private R solve(P problem, Metrics metrics, boolean parallel) {
+        metrics.recordLevelNode();
+        if (algorithm.size(problem) <= cutoff) {
+            return algorithm.solveDirectly(problem, metrics);
+        }
+
+        try (RecursionTracker rt = new RecursionTracker(metrics)) {
+            List<P> subproblems = algorithm.divide(problem, metrics);
+            int count = subproblems.size();
+            List<SolveTask> forked = new ArrayList<>(count);
+            List<R> results = new ArrayList<>(count);
+            int largest = largest(subproblems);
+
+            // Fork everything worth a task except the largest, which this thread solves itself
+            for (int i = 0; i < count; i++) {
+                SolveTask task = null;
+                P subproblem = subproblems.get(i);
+                if (parallel && i != largest && algorithm.size(subproblem) > cutoff) {
+                    task = new SolveTask(subproblem, metrics.createChild());
+                    task.fork();
+                }
+                forked.add(task);
+                results.add(null);
+            }
+            for (int i = 0; i < count; i++) {
+                if (forked.get(i) == null) {
+                    results.set(i, solve(subproblems.get(i), metrics, parallel));
+                }
+            }
+            for (int i = count - 1; i >= 0; i--) {
+                SolveTask task = forked.get(i);
+                if (task != null) {
+                    results.set(i, task.join());
+                    metrics.merge(task.metrics);
+                }
+            }
+            return algorithm.combine(problem, results, metrics);
+        }
+    }
+
+    private int largest(List<P> subproblems) {
+        int largest = 0;
+        for (int i = 1; i < subproblems.size(); i++) {
+            if (algorithm.size(subproblems.get(i)) > algorithm.size(subproblems.get(largest))) {
+                largest = i;
+            }
+        }
+        return largest;
+    }
+
+    @SuppressWarnings("serial")
+    private final class SolveTask extends RecursiveTask<R> {
+        private final P problem;
+        private final Metrics metrics;
+
+        SolveTask(P problem, Metrics metrics) {
+            this.problem = problem;
+            this.metrics = metrics;
+        }
+
+        @Override
+        protected R compute() {
+            return solve(problem, metrics, true);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package divideconquer;
+
+import metrics.Metrics;
+
+import java.util.List;
+
+// Callbacks of an in-place divide-and-conquer algorithm (quicksort) whose subproblems, once
+// solved, leave nothing to combine. InPlaceDivideAndConquerRunner owns the recursion
+public interface InPlaceDivideAndConquer<P> {
+    int size(P problem);
+
+    // Base case, also used for every problem at or below the runner's cutoff
+    void solveDirectly(P problem, Metrics metrics);
+
+    // May return no subproblems when divide already finished the work.
+    // Subproblems solved in parallel must touch disjoint state
+    List<P> divide(P problem, Metrics metrics);
+}
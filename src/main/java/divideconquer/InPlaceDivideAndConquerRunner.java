@@ -0,0 +1,100 @@
+package divideconquer;
+
+import metrics.Metrics;
+import metrics.RecursionTracker;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Drives an InPlaceDivideAndConquer algorithm sequentially or on a fork-join pool, recording
+// level nodes and depth the way DivideAndConquerRunner does. With no combine step the largest
+// subproblem is taken over by a loop, as sequential quicksort does, so nesting only grows
+// through the smaller ones and stays bounded when divisions are lopsided
+public final class InPlaceDivideAndConquerRunner<P> {
+    private final InPlaceDivideAndConquer<P> algorithm;
+    private final int cutoff;
+
+    // Problems of size <= cutoff go to solveDirectly; in parallel mode this is also the grain
+    public InPlaceDivideAndConquerRunner(InPlaceDivideAndConquer<P> algorithm, int cutoff) {
+        if (cutoff < 1) {
+            throw new IllegalArgumentException("Cutoff must be positive");
+        }
+        this.algorithm = algorithm;
+        this.cutoff = cutoff;
+    }
+
+    public int getCutoff() { return cutoff; }
+
+    public void solve(P problem, Metrics metrics) {
+        solve(problem, metrics, false);
+    }
+
+    // Each forked subproblem records into a child of the caller's metrics, merged back after join
+    public void solveParallel(P problem, Metrics metrics, ForkJoinPool pool) {
+        pool.invoke(new SolveAction(problem, metrics));
+    }
+
+    private void solve(P problem, Metrics metrics, boolean parallel) {
+        Deque<SolveAction> forked = new ArrayDeque<>();
+        while (true) {
+            metrics.recordLevelNode();
+            if (algorithm.size(problem) <= cutoff) {
+                algorithm.solveDirectly(problem, metrics);
+                break;
+            }
+
+            try (RecursionTracker rt = new RecursionTracker(metrics)) {
+                List<P> subproblems = algorithm.divide(problem, metrics);
+                if (subproblems.isEmpty()) break;
+                int largest = largest(subproblems);
+                for (int i = 0; i < subproblems.size(); i++) {
+                    if (i == largest) continue;
+                    P subproblem = subproblems.get(i);
+                    if (parallel && algorithm.size(subproblem) > cutoff) {
+                        SolveAction action = new SolveAction(subproblem, metrics.createChild());
+                        action.fork();
+                        forked.push(action);
+                    } else {
+                        solve(subproblem, metrics, parallel);
+                    }
+                }
+                problem = subproblems.get(largest);
+            }
+        }
+
+        while (!forked.isEmpty()) {
+            SolveAction action = forked.pop();
+            action.join();
+            metrics.merge(action.metrics);
+        }
+    }
+
+    private int largest(List<P> subproblems) {
+        int largest = 0;
+        for (int i = 1; i < subproblems.size(); i++) {
+            if (algorithm.size(subproblems.get(i)) > algorithm.size(subproblems.get(largest))) {
+                largest = i;
+            }
+        }
+        return largest;
+    }
+
+    @SuppressWarnings("serial")
+    private final class SolveAction extends RecursiveAction {
+        private final P problem;
+        private final Metrics metrics;
+
+        SolveAction(P problem, Metrics metrics) {
+            this.problem = problem;
+            this.metrics = metrics;
+        }
+
+        @Override
+        protected void compute() {
+            solve(problem, metrics, true);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package divideconquer;
+
+// Inclusive index range [left, right] of an array the algorithm instance holds
+public record Range(int left, int right) {
+    public int size() {
+        return right - left + 1;
+    }
+
+    public int mid() {
+        return left + (right - left) / 2;
+    }
+}
@@ -1,10 +1,19 @@
 package metrics;
 
+import java.util.Arrays;
+
 public class Metrics {
-    private int comparisons;
+    // long: the MemorySegment sorts take more than 2^31 elements
+    private long comparisons;
     private int allocations;
     private int maxRecursionDepth;
     private int currentRecursionDepth;
+    private long elementMoves;
+    private long allocatedBytes;
+    // Subproblems solved at each recursion depth, recorded by the divide-and-conquer runner
+    private int[] levelNodes = new int[0];
+    // Engine picked by a dispatching front door such as AdaptiveSort, null when none ran
+    private String strategy;
 
     public Metrics() {
         this.comparisons = 0;
@@ -17,7 +26,7 @@ public class Metrics {
         comparisons++;
     }
 
-    public void incrementComparisons(int n) {
+    public void incrementComparisons(long n) {
         comparisons += n;
     }
 
@@ -25,6 +34,15 @@ public class Metrics {
         allocations++;
     }
 
+    public void recordAllocation(long bytes) {
+        allocations++;
+        allocatedBytes += bytes;
+    }
+
+    public void incrementMoves(long n) {
+        elementMoves += n;
+    }
+
     public void enterRecursion() {
         currentRecursionDepth++;
         if (currentRecursionDepth > maxRecursionDepth) {
@@ -36,8 +54,54 @@ public class Metrics {
         currentRecursionDepth--;
     }
 
+    public void recordStrategy(String strategy) {
+        this.strategy = strategy;
+    }
+
+    public void recordLevelNode() {
+        if (currentRecursionDepth >= levelNodes.length) {
+            levelNodes = Arrays.copyOf(levelNodes, Math.max(currentRecursionDepth + 1, 2 * levelNodes.length));
+        }
+        levelNodes[currentRecursionDepth]++;
+    }
+
+    // Metrics is not thread-safe: each parallel task records into its own child,
+    // which starts at the parent's current depth and is merged back after join
+    public Metrics createChild() {
+        Metrics child = new Metrics();
+        child.currentRecursionDepth = currentRecursionDepth;
+        child.maxRecursionDepth = currentRecursionDepth;
+        return child;
+    }
+
+    public void merge(Metrics child) {
+        comparisons += child.comparisons;
+        allocations += child.allocations;
+        elementMoves += child.elementMoves;
+        allocatedBytes += child.allocatedBytes;
+        if (child.maxRecursionDepth > maxRecursionDepth) {
+            maxRecursionDepth = child.maxRecursionDepth;
+        }
+        if (child.levelNodes.length > levelNodes.length) {
+            levelNodes = Arrays.copyOf(levelNodes, child.levelNodes.length);
+        }
+        for (int depth = 0; depth < child.levelNodes.length; depth++) {
+            levelNodes[depth] += child.levelNodes[depth];
+        }
+    }
+
     // Getters
-    public int getComparisons() { return comparisons; }
+    public long getComparisons() { return comparisons; }
     public int getAllocations() { return allocations; }
     public int getMaxRecursionDepth() { return maxRecursionDepth; }
+    public long getElementMoves() { return elementMoves; }
+    public long getAllocatedBytes() { return allocatedBytes; }
+    public String getStrategy() { return strategy; }
+
+    // Index i holds the subproblems recorded at depth i, trimmed to the deepest recorded level
+    public int[] getLevelNodes() {
+        int levels = levelNodes.length;
+        while (levels > 0 && levelNodes[levels - 1] == 0) levels--;
+        return Arrays.copyOf(levelNodes, levels);
+    }
 }
@@ -11,12 +11,25 @@ public class ArrayUtils {
         }
     }
 
+    public static void shuffle(long[] array, Random random) {
+        for (int i = array.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            swap(array, i, j);
+        }
+    }
+
     public static void swap(int[] array, int i, int j) {
         int temp = array[i];
         array[i] = array[j];
         array[j] = temp;
     }
 
+    public static void swap(long[] array, int i, int j) {
+        long temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
     public static boolean isSorted(int[] array) {
         for (int i = 1; i < array.length; i++) {
             if (array[i] < array[i - 1]) {
@@ -36,4 +49,53 @@ public class ArrayUtils {
 
         return mid;
     }
-}
\ No newline at end of file
+
+    // Maps a double to a long whose signed order matches Double.compare:
+    // -0.0 sorts before 0.0 and NaN sorts after positive infinity
+    public static long sortableBits(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    public static double fromSortableBits(long bits) {
+        return Double.longBitsToDouble(bits ^ ((bits >> 63) & Long.MAX_VALUE));
+    }
+
+    // Float counterpart of sortableBits(double), ordered like Float.compare
+    public static int sortableBits(float value) {
+        int bits = Float.floatToIntBits(value);
+        return bits ^ ((bits >> 31) & Integer.MAX_VALUE);
+    }
+
+    public static float fromSortableBits(int bits) {
+        return Float.intBitsToFloat(bits ^ ((bits >> 31) & Integer.MAX_VALUE));
+    }
+
+    public static long[] toSortableBits(double[] array) {
+        long[] bits = new long[array.length];
+        for (int i = 0; i < array.length; i++) {
+            bits[i] = sortableBits(array[i]);
+        }
+        return bits;
+    }
+
+    public static int[] toSortableBits(float[] array) {
+        int[] bits = new int[array.length];
+        for (int i = 0; i < array.length; i++) {
+            bits[i] = sortableBits(array[i]);
+        }
+        return bits;
+    }
+
+    public static void fromSortableBits(long[] bits, double[] target) {
+        for (int i = 0; i < bits.length; i++) {
+            target[i] = fromSortableBits(bits[i]);
+        }
+    }
+
+    public static void fromSortableBits(int[] bits, float[] target) {
+        for (int i = 0; i < bits.length; i++) {
+            target[i] = fromSortableBits(bits[i]);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package util;
+
+import metrics.Metrics;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+
+// Per-thread cache of scratch arrays in power-of-two size classes, one slot per class and
+// element type. borrow takes the cached array out of its slot (so nested borrowers never
+// share), release puts it back. Arrays above MAX_POOLED_LENGTH are never cached, and when
+// the cached total would exceed MAX_CACHED_BYTES the largest cached arrays are evicted.
+// Disable with -Dalgorithms.scratchArena=false to get a plain allocation per borrow.
+// Every borrow is recorded in Metrics as an allocation of the returned array, cached or not,
+// so the counts describe the algorithm and not what the thread happened to run before; the
+// allocations the cache actually saves show up in a GC profile.
+public final class ScratchArena {
+    static final boolean ENABLED = !"false".equals(System.getProperty("algorithms.scratchArena"));
+
+    private static final int MAX_CLASS = 20;
+    private static final int MAX_POOLED_LENGTH = 1 << MAX_CLASS;
+    private static final long MAX_CACHED_BYTES = 16L << 20;
+
+    private static final ThreadLocal<ScratchArena> LOCAL = ThreadLocal.withInitial(ScratchArena::new);
+
+    private final int[][] ints = new int[MAX_CLASS + 1][];
+    private final long[][] longs = new long[MAX_CLASS + 1][];
+    private final Object[][] objects = new Object[MAX_CLASS + 1][];
+    private long cachedBytes;
+
+    private ScratchArena() {
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    // Returns an array of at least minLength elements with unspecified contents
+    public static int[] borrowInts(int minLength, Metrics metrics) {
+        int[] array = null;
+        if (ENABLED && minLength <= MAX_POOLED_LENGTH) {
+            ScratchArena arena = LOCAL.get();
+            int sizeClass = sizeClass(minLength);
+            array = arena.ints[sizeClass];
+            if (array != null) {
+                arena.ints[sizeClass] = null;
+                arena.cachedBytes -= (long) array.length * Integer.BYTES;
+            }
+            minLength = 1 << sizeClass;
+        }
+        if (array == null) array = new int[minLength];
+        metrics.recordAllocation((long) array.length * Integer.BYTES);
+        return array;
+    }
+
+    public static void release(int[] array) {
+        if (!ENABLED || !isPoolable(array.length)) return;
+        ScratchArena arena = LOCAL.get();
+        int sizeClass = sizeClass(array.length);
+        if (arena.ints[sizeClass] == null && arena.makeRoom((long) array.length * Integer.BYTES)) {
+            arena.ints[sizeClass] = array;
+        }
+    }
+
+    public static long[] borrowLongs(int minLength, Metrics metrics) {
+        long[] array = null;
+        if (ENABLED && minLength <= MAX_POOLED_LENGTH) {
+            ScratchArena arena = LOCAL.get();
+            int sizeClass = sizeClass(minLength);
+            array = arena.longs[sizeClass];
+            if (array != null) {
+                arena.longs[sizeClass] = null;
+                arena.cachedBytes -= (long) array.length * Long.BYTES;
+            }
+            minLength = 1 << sizeClass;
+        }
+        if (array == null) array = new long[minLength];
+        metrics.recordAllocation((long) array.length * Long.BYTES);
+        return array;
+    }
+
+    public static void release(long[] array) {
+        if (!ENABLED || !isPoolable(array.length)) return;
+        ScratchArena arena = LOCAL.get();
+        int sizeClass = sizeClass(array.length);
+        if (arena.longs[sizeClass] == null && arena.makeRoom((long) array.length * Long.BYTES)) {
+            arena.longs[sizeClass] = array;
+        }
+    }
+
+    // Object arrays are cached per size class only; a cached array of another component
+    // type is left in place and a new one allocated
+    @SuppressWarnings("unchecked")
+    public static <T> T[] borrowObjects(Class<T> type, int minLength, Metrics metrics) {
+        Object[] array = null;
+        if (ENABLED && minLength <= MAX_POOLED_LENGTH) {
+            ScratchArena arena = LOCAL.get();
+            int sizeClass = sizeClass(minLength);
+            Object[] cached = arena.objects[sizeClass];
+            if (cached != null && cached.getClass().getComponentType() == type) {
+                arena.objects[sizeClass] = null;
+                arena.cachedBytes -= referenceBytes(cached.length);
+                array = cached;
+            }
+            minLength = 1 << sizeClass;
+        }
+        if (array == null) array = (Object[]) Array.newInstance(type, minLength);
+        metrics.recordAllocation(referenceBytes(array.length));
+        return (T[]) array;
+    }
+
+    // Clears the first usedLength slots so the cache does not keep callers' objects alive
+    public static void release(Object[] array, int usedLength) {
+        if (!ENABLED || !isPoolable(array.length)) return;
+        Arrays.fill(array, 0, usedLength, null);
+        ScratchArena arena = LOCAL.get();
+        int sizeClass = sizeClass(array.length);
+        if (arena.objects[sizeClass] == null && arena.makeRoom(referenceBytes(array.length))) {
+            arena.objects[sizeClass] = array;
+        }
+    }
+
+    // Drops everything cached for the calling thread, so tests start from an empty arena
+    static void clear() {
+        LOCAL.remove();
+    }
+
+    // Evicts the largest cached arrays until bytes more fit under the cap
+    private boolean makeRoom(long bytes) {
+        if (bytes > MAX_CACHED_BYTES) return false;
+        for (int sizeClass = MAX_CLASS; sizeClass >= 0 && cachedBytes + bytes > MAX_CACHED_BYTES; sizeClass--) {
+            if (ints[sizeClass] != null) {
+                cachedBytes -= (long) ints[sizeClass].length * Integer.BYTES;
+                ints[sizeClass] = null;
+            }
+            if (longs[sizeClass] != null) {
+                cachedBytes -= (long) longs[sizeClass].length * Long.BYTES;
+                longs[sizeClass] = null;
+            }
+            if (objects[sizeClass] != null) {
+                cachedBytes -= referenceBytes(objects[sizeClass].length);
+                objects[sizeClass] = null;
+            }
+        }
+        cachedBytes += bytes;
+        return true;
+    }
+
+    // Only arrays this arena handed out (exact powers of two) go back into a slot
+    private static boolean isPoolable(int length) {
+        return length <= MAX_POOLED_LENGTH && Integer.bitCount(length) == 1;
+    }
+
+    private static int sizeClass(int length) {
+        return length <= 1 ? 0 : 32 - Integer.numberOfLeadingZeros(length - 1);
+    }
+
+    // Assumes compressed references
+    private static long referenceBytes(int length) {
+        return (long) length * Integer.BYTES;
+    }
+}
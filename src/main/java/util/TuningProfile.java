@@ -0,0 +1,71 @@
+package util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Properties;
+
+// Machine-specific thresholds written by CalibrationRunner and read once, when the first
+// algorithm class initializes its constants. The file is -Dalgorithms.tuningProfile=<path>,
+// by default tuning.properties in the working directory. A missing or unreadable file, a
+// missing key or a value that is not an int of at least the caller's minimum all fall back
+// to the built-in default.
+public final class TuningProfile {
+    public static final String PATH_PROPERTY = "algorithms.tuningProfile";
+
+    public static final String MERGE_SORT_INSERTION_CUTOFF = "mergeSort.insertionSortCutoff";
+    public static final String MERGE_SORT_PARALLEL_GRAIN = "mergeSort.parallelGrain";
+    public static final String QUICK_SORT_PARALLEL_GRAIN = "quickSort.parallelGrain";
+    public static final String CLOSEST_PAIR_BRUTE_FORCE_CUTOFF = "closestPair.bruteForceCutoff";
+    public static final String CLOSEST_PAIR_PARALLEL_GRAIN = "closestPair.parallelGrain";
+    public static final String SELECT_PARALLEL_GRAIN = "deterministicSelect.parallelGrain";
+
+    private static final Properties VALUES = load(path());
+
+    private TuningProfile() {
+    }
+
+    public static Path path() {
+        return Paths.get(System.getProperty(PATH_PROPERTY, "tuning.properties"));
+    }
+
+    public static int getInt(String key, int defaultValue, int minValue) {
+        return getInt(VALUES, key, defaultValue, minValue);
+    }
+
+    public static void save(Path path, Map<String, Integer> values) throws IOException {
+        Properties properties = new Properties();
+        values.forEach((key, value) -> properties.setProperty(key, String.valueOf(value)));
+        try (Writer writer = Files.newBufferedWriter(path)) {
+            properties.store(writer, "Calibrated thresholds; delete to fall back to defaults");
+        }
+    }
+
+    static Properties load(Path path) {
+        Properties properties = new Properties();
+        if (Files.isRegularFile(path)) {
+            try (Reader reader = Files.newBufferedReader(path)) {
+                properties.load(reader);
+            } catch (IOException | IllegalArgumentException e) {
+                // A broken profile must not keep the algorithms from loading
+                properties.clear();
+            }
+        }
+        return properties;
+    }
+
+    static int getInt(Properties properties, String key, int defaultValue, int minValue) {
+        String value = properties.getProperty(key);
+        if (value == null) return defaultValue;
+        try {
+            int parsed = Integer.parseInt(value.trim());
+            return parsed >= minValue ? parsed : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package algorithms;
+
+import metrics.Metrics;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveSortTest {
+
+    private static void assertSortsAs(AdaptiveSort.Strategy expected, int[] array) {
+        int[] sorted = array.clone();
+        Arrays.sort(sorted);
+        Metrics metrics = new Metrics();
+        AdaptiveSort.sort(array, metrics);
+        assertArrayEquals(sorted, array);
+        assertEquals(expected.name(), metrics.getStrategy());
+    }
+
+    @Test
+    void testSmallArrayUsesInsertionSort() {
+        assertSortsAs(AdaptiveSort.Strategy.INSERTION_SORT, new int[]{5, -1, 3, 3, Integer.MIN_VALUE, 0});
+    }
+
+    @Test
+    void testPresortedInputUsesNaturalMergeSort() {
+        int n = 100_000;
+        int[] ascending = new int[n];
+        int[] descending = new int[n];
+        for (int i = 0; i < n; i++) {
+            ascending[i] = i * 7;
+            descending[i] = (n - i) * 7;
+        }
+        int[] allEqual = new int[n];
+        Arrays.fill(allEqual, 42);
+
+        assertSortsAs(AdaptiveSort.Strategy.NATURAL_MERGE_SORT, ascending);
+        assertSortsAs(AdaptiveSort.Strategy.NATURAL_MERGE_SORT, descending);
+        assertSortsAs(AdaptiveSort.Strategy.NATURAL_MERGE_SORT, allEqual);
+    }
+
+    @Test
+    void testNarrowRangeUsesCountingSort() {
+        Random random = new Random(42);
+        assertSortsAs(AdaptiveSort.Strategy.COUNTING_SORT, random.ints(100_000, -500, 500).toArray());
+    }
+
+    @Test
+    void testOutlierMissedBySampleFallsBackToRadix() {
+        Random random = new Random(42);
+        int[] array = random.ints(100_000, 0, 1000).toArray();
+        // Outside every sample window, so only the exact range check sees it
+        array[12_345] = Integer.MAX_VALUE;
+        assertSortsAs(AdaptiveSort.Strategy.RADIX_SORT, array);
+    }
+
+    @Test
+    void testWideRangeChoosesByLengthAndDuplicates() {
+        Random random = new Random(42);
+        assertSortsAs(AdaptiveSort.Strategy.RADIX_SORT, random.ints(100_000).toArray());
+        assertSortsAs(AdaptiveSort.Strategy.QUICK_SORT, random.ints(2000).toArray());
+        int[] fewKeys = random.ints(2000, 0, 8).map(v -> v * 1_000_000).toArray();
+        assertSortsAs(AdaptiveSort.Strategy.MERGE_SORT, fewKeys);
+    }
+
+    @Test
+    void testSortsEveryShape() {
+        Random random = new Random(7);
+        for (int n : new int[]{0, 1, 2, 33, 100, 5000, 70_000}) {
+            for (int bound : new int[]{1, 10, 1000, Integer.MAX_VALUE}) {
+                int[] array = random.ints(n, 0, bound).map(v -> random.nextBoolean() ? v : -v).toArray();
+                int[] expected = array.clone();
+                Arrays.sort(expected);
+                AdaptiveSort.sort(array, new Metrics());
+                assertArrayEquals(expected, array, "Failed for n=" + n + ", bound=" + bound);
+            }
+        }
+    }
+
+    @Test
+    void testNullAndTrivialInputs() {
+        Metrics metrics = new Metrics();
+        AdaptiveSort.sort(null, metrics);
+        AdaptiveSort.sort(new int[]{1}, metrics);
+        assertNull(metrics.getStrategy());
+    }
+}
@@ -0,0 +1,90 @@
+package algorithms;
+
+import metrics.Metrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import util.TuningProfile;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CalibratorTest {
+
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    private static boolean contains(int[] candidates, int value) {
+        return Arrays.stream(candidates).anyMatch(c -> c == value);
+    }
+
+    @Test
+    void testCalibratePicksFromCandidates() {
+        Map<String, Integer> profile = new Calibrator(2000, 1, pool).calibrate();
+
+        assertEquals(6, profile.size());
+        assertTrue(contains(Calibrator.INSERTION_SORT_CUTOFFS, profile.get(TuningProfile.MERGE_SORT_INSERTION_CUTOFF)));
+        assertTrue(contains(Calibrator.BRUTE_FORCE_CUTOFFS, profile.get(TuningProfile.CLOSEST_PAIR_BRUTE_FORCE_CUTOFF)));
+        assertTrue(contains(Calibrator.PARALLEL_GRAINS, profile.get(TuningProfile.MERGE_SORT_PARALLEL_GRAIN)));
+        assertTrue(contains(Calibrator.PARALLEL_GRAINS, profile.get(TuningProfile.QUICK_SORT_PARALLEL_GRAIN)));
+        assertTrue(contains(Calibrator.PARALLEL_GRAINS, profile.get(TuningProfile.CLOSEST_PAIR_PARALLEL_GRAIN)));
+        assertTrue(contains(Calibrator.PARALLEL_GRAINS, profile.get(TuningProfile.SELECT_PARALLEL_GRAIN)));
+    }
+
+    @Test
+    void testEveryCandidateThresholdIsCorrect() {
+        Random random = new Random(42);
+        int[] data = random.ints(20_000).toArray();
+        int[] expected = data.clone();
+        Arrays.sort(expected);
+        for (int cutoff : Calibrator.INSERTION_SORT_CUTOFFS) {
+            int[] array = data.clone();
+            MergeSort.sort(array, cutoff, new Metrics());
+            assertArrayEquals(expected, array, "Insertion cutoff " + cutoff);
+        }
+        for (int grain : Calibrator.PARALLEL_GRAINS) {
+            int[] merged = data.clone();
+            MergeSort.parallelSort(merged, grain, new Metrics(), pool);
+            assertArrayEquals(expected, merged, "Merge sort grain " + grain);
+            int[] partitioned = data.clone();
+            QuickSort.parallelSort(partitioned, grain, new Metrics(), pool);
+            assertArrayEquals(expected, partitioned, "Quicksort grain " + grain);
+            assertEquals(expected[data.length / 2],
+                    DeterministicSelect.parallelSelect(data.clone(), data.length / 2, grain, new Metrics(), pool),
+                    "Select grain " + grain);
+        }
+
+        ClosestPair.Point[] points = new ClosestPair.Point[3000];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = new ClosestPair.Point(random.nextDouble() * 100, random.nextDouble() * 100);
+        }
+        double closest = ClosestPair.findClosestPair(points, new Metrics());
+        for (int cutoff : Calibrator.BRUTE_FORCE_CUTOFFS) {
+            assertEquals(closest, ClosestPair.findClosestPair(points, cutoff, new Metrics()), 1e-12,
+                    "Brute-force cutoff " + cutoff);
+        }
+        for (int grain : Calibrator.PARALLEL_GRAINS) {
+            assertEquals(closest, ClosestPair.findClosestPairParallel(points, grain, new Metrics(), pool), 1e-12,
+                    "Closest pair grain " + grain);
+        }
+    }
+
+    @Test
+    void testInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new Calibrator(1, 1, pool));
+        assertThrows(IllegalArgumentException.class, () -> new Calibrator(100, 0, pool));
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import static org.junit.jupiter.api.Assertions.*;
 
 class ClosestPairTest {
@@ -40,6 +41,21 @@ class ClosestPairTest {
         });
     }
 
+    @Test
+    void testClosestPairRecordsEachScratchArrayOnce() {
+        Random random = new Random(42);
+        ClosestPair.Point[] points = new ClosestPair.Point[500];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = new ClosestPair.Point(random.nextDouble(), random.nextDouble());
+        }
+        // The sorted copy and the strip buffer, whether or not the arena had them cached
+        for (int run = 0; run < 2; run++) {
+            Metrics runMetrics = new Metrics();
+            ClosestPair.findClosestPair(points, runMetrics);
+            assertEquals(2, runMetrics.getAllocations());
+        }
+    }
+
     @Test
     void testClosestPairTwoPoints() {
         ClosestPair.Point[] points = {
@@ -320,6 +336,32 @@ class ClosestPairTest {
         }
     }
 
+    @Test
+    void testClosestPairParallelMatchesSequential() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int n : new int[]{2, 100, 5000, 50000}) {
+                ClosestPair.Point[] points = generateRandomPoints(n, n);
+                Metrics sequentialMetrics = new Metrics();
+                double expected = ClosestPair.findClosestPair(points.clone(), sequentialMetrics);
+                Metrics parallelMetrics = new Metrics();
+                assertEquals(expected, ClosestPair.findClosestPairParallel(points, parallelMetrics, pool), 0.0,
+                        "Failed for n=" + n);
+                assertTrue(parallelMetrics.getComparisons() > 0);
+                // Both modes run on the same runner and grain, so they split the same way
+                assertArrayEquals(sequentialMetrics.getLevelNodes(), parallelMetrics.getLevelNodes());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testClosestPairParallelTooFewPoints() {
+        assertThrows(IllegalArgumentException.class,
+                () -> ClosestPair.findClosestPairParallel(new ClosestPair.Point[]{new ClosestPair.Point(0, 0)}, metrics));
+    }
+
     // Helper method to generate random points
     private ClosestPair.Point[] generateRandomPoints(int n, long seed) {
         Random random = new Random(seed);
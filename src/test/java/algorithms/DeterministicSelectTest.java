@@ -6,6 +6,7 @@ import org.junit.jupiter.api.BeforeEach;
 
 import java.util.Arrays;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -342,4 +343,137 @@ class DeterministicSelectTest {
             assertEquals(expected, result, "Result should be stable across runs");
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void testSelectLong() {
+        long[] array = new Random(42).longs(1000).toArray();
+        long[] sorted = array.clone();
+        Arrays.sort(sorted);
+        for (int k : new int[]{0, 1, 499, 500, 998, 999}) {
+            assertEquals(sorted[k], DeterministicSelect.select(array.clone(), k, new Metrics()), "Failed for k=" + k);
+        }
+    }
+
+    @Test
+    void testSelectDoubleFollowsDoubleCompare() {
+        double[] array = {3.0, Double.NaN, -0.0, 0.0, -1.5, Double.POSITIVE_INFINITY};
+        double[] sorted = array.clone();
+        Arrays.sort(sorted);
+        for (int k = 0; k < array.length; k++) {
+            double result = DeterministicSelect.select(array, k, new Metrics());
+            assertEquals(Double.doubleToRawLongBits(sorted[k]), Double.doubleToRawLongBits(result), "Failed for k=" + k);
+        }
+    }
+
+    @Test
+    void testSelectFloat() {
+        float[] array = {2.0f, -3.5f, Float.NaN, 0.25f, -0.0f};
+        float[] sorted = array.clone();
+        Arrays.sort(sorted);
+        for (int k = 0; k < array.length; k++) {
+            assertEquals(sorted[k], DeterministicSelect.select(array, k, new Metrics()), "Failed for k=" + k);
+        }
+    }
+
+    @Test
+    void testSelectAllEqualIsLinear() {
+        int n = 100000;
+        int[] array = new int[n];
+        Arrays.fill(array, 7);
+        for (int k : new int[]{0, n / 2, n - 1}) {
+            Metrics testMetrics = new Metrics();
+            assertEquals(7, DeterministicSelect.select(array.clone(), k, testMetrics));
+            assertTrue(testMetrics.getComparisons() <= 10L * n,
+                    "Comparisons should be O(n), got: " + testMetrics.getComparisons());
+        }
+    }
+
+    @Test
+    void testSelectFewDistinctKeys() {
+        Random random = new Random(42);
+        int n = 100000;
+        int[] array = random.ints(n, 0, 4).toArray();
+        long[] longArray = Arrays.stream(array).asLongStream().toArray();
+        int[] sorted = array.clone();
+        Arrays.sort(sorted);
+        for (int k : new int[]{0, n / 3, n / 2, n - 1}) {
+            Metrics testMetrics = new Metrics();
+            assertEquals(sorted[k], DeterministicSelect.select(array.clone(), k, testMetrics));
+            assertTrue(testMetrics.getComparisons() <= 30L * n,
+                    "Comparisons should be O(n), got: " + testMetrics.getComparisons());
+            assertEquals(sorted[k], DeterministicSelect.select(longArray.clone(), k, new Metrics()));
+        }
+    }
+
+    @Test
+    void testParallelSelectMatchesSequential() {
+        Random random = new Random(42);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            // The largest size sorts its median-of-medians groups in parallel at the top levels
+            for (int n : new int[]{1, 100, 10000, 300000}) {
+                for (int bound : new int[]{4, Integer.MAX_VALUE}) {
+                    int[] array = random.ints(n, 0, bound).toArray();
+                    int[] sorted = array.clone();
+                    Arrays.sort(sorted);
+                    for (int k : new int[]{0, n / 3, n / 2, n - 1}) {
+                        Metrics testMetrics = new Metrics();
+                        assertEquals(sorted[k], DeterministicSelect.parallelSelect(array.clone(), k, testMetrics, pool),
+                                "Failed for n=" + n + ", bound=" + bound + ", k=" + k);
+                        assertEquals(1, testMetrics.getLevelNodes()[0]);
+                        Metrics sequentialMetrics = new Metrics();
+                        DeterministicSelect.select(array.clone(), k, sequentialMetrics);
+                        assertArrayEquals(sequentialMetrics.getLevelNodes(), testMetrics.getLevelNodes());
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testParallelSelectInvalidK() {
+        assertThrows(IllegalArgumentException.class, () -> DeterministicSelect.parallelSelect(new int[]{1, 2}, 2, metrics));
+        assertThrows(IllegalArgumentException.class, () -> DeterministicSelect.parallelSelect(new int[0], 0, metrics));
+    }
+
+    @Test
+    void testSelectIterativeMatchesRecursive() {
+        Random random = new Random(42);
+        for (int n : new int[]{1, 5, 6, 26, 1000, 100000}) {
+            for (int bound : new int[]{3, Integer.MAX_VALUE}) {
+                int[] array = random.ints(n, 0, bound).toArray();
+                for (int k : new int[]{0, n / 3, n / 2, n - 1}) {
+                    Metrics recursiveMetrics = new Metrics();
+                    int expected = DeterministicSelect.select(array.clone(), k, recursiveMetrics);
+                    Metrics iterativeMetrics = new Metrics();
+                    assertEquals(expected, DeterministicSelect.selectIterative(array.clone(), k, iterativeMetrics),
+                            "Failed for n=" + n + ", bound=" + bound + ", k=" + k);
+                    assertEquals(recursiveMetrics.getComparisons(), iterativeMetrics.getComparisons());
+                    assertEquals(recursiveMetrics.getMaxRecursionDepth(), iterativeMetrics.getMaxRecursionDepth());
+                }
+            }
+        }
+    }
+
+    @Test
+    void testSelectIterativeOnSmallThreadStack() throws InterruptedException {
+        int n = 2_000_000;
+        int[] array = new Random(7).ints(n).toArray();
+        int[] sorted = array.clone();
+        Arrays.sort(sorted);
+        int[] result = new int[1];
+        Thread thread = new Thread(null, () -> result[0] = DeterministicSelect.selectIterative(array, n / 2, new Metrics()),
+                "small-stack", 16 * 1024);
+        thread.start();
+        thread.join();
+        assertEquals(sorted[n / 2], result[0]);
+    }
+
+    @Test
+    void testSelectIterativeInvalidK() {
+        assertThrows(IllegalArgumentException.class, () -> DeterministicSelect.selectIterative(new int[]{1}, 1, metrics));
+        assertThrows(IllegalArgumentException.class, () -> DeterministicSelect.selectIterative(null, 0, metrics));
+    }
+}
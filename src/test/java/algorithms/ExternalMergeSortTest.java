@@ -0,0 +1,105 @@
+package algorithms;
+
+import metrics.Metrics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExternalMergeSortTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static void writeInts(Path file, int[] values) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Integer.BYTES);
+        buffer.asIntBuffer().put(values);
+        Files.write(file, buffer.array());
+    }
+
+    private static int[] readInts(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        int[] values = new int[buffer.remaining() / Integer.BYTES];
+        buffer.asIntBuffer().get(values);
+        return values;
+    }
+
+    @Test
+    void testSortManyRuns() throws IOException {
+        int[] values = new Random(42).ints(100000).toArray();
+        Path input = tempDir.resolve("input.bin");
+        Path output = tempDir.resolve("output.bin");
+        writeInts(input, values);
+
+        Metrics metrics = new Metrics();
+        ExternalMergeSort.sort(input, output, 1000, metrics);
+
+        int[] expected = values.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, readInts(output));
+        assertTrue(metrics.getComparisons() > 0);
+        // Spilled runs are cleaned up
+        try (var files = Files.list(tempDir)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    void testSortMultiPassMergeWithSmallFanIn() throws IOException {
+        int[] values = new Random(11).ints(20000, -1000, 1000).toArray();
+        Path input = tempDir.resolve("input.bin");
+        Path output = tempDir.resolve("output.bin");
+        writeInts(input, values);
+
+        // 40 runs at fan-in 3 take several passes of intermediate runs
+        ExternalMergeSort.sort(input, output, 500, 3, new Metrics());
+
+        int[] expected = values.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, readInts(output));
+        try (var files = Files.list(tempDir)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    void testSortSingleRunAndPartialLastRun() throws IOException {
+        int[] values = new Random(7).ints(2500, -50, 50).toArray();
+        int[] expected = values.clone();
+        Arrays.sort(expected);
+        Path input = tempDir.resolve("input.bin");
+        writeInts(input, values);
+
+        Path single = tempDir.resolve("single.bin");
+        ExternalMergeSort.sort(input, single, 10000, new Metrics());
+        assertArrayEquals(expected, readInts(single));
+
+        Path partial = tempDir.resolve("partial.bin");
+        ExternalMergeSort.sort(input, partial, 1024, new Metrics());
+        assertArrayEquals(expected, readInts(partial));
+    }
+
+    @Test
+    void testSortEmptyFile() throws IOException {
+        Path input = tempDir.resolve("empty.bin");
+        Path output = tempDir.resolve("output.bin");
+        Files.createFile(input);
+        ExternalMergeSort.sort(input, output, 16, new Metrics());
+        assertEquals(0, Files.size(output));
+    }
+
+    @Test
+    void testSortRejectsTruncatedInts() throws IOException {
+        Path input = tempDir.resolve("odd.bin");
+        Files.write(input, new byte[]{1, 2, 3});
+        assertThrows(IllegalArgumentException.class,
+                () -> ExternalMergeSort.sort(input, tempDir.resolve("out.bin"), 16, new Metrics()));
+    }
+}
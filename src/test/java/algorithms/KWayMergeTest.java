@@ -0,0 +1,77 @@
+package algorithms;
+
+import metrics.Metrics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KWayMergeTest {
+
+    private Metrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new Metrics();
+    }
+
+    private static int[][] sortedRuns(int k, int length, Random random) {
+        int[][] runs = new int[k][];
+        for (int r = 0; r < k; r++) {
+            runs[r] = random.ints(random.nextInt(length + 1), -1000, 1000).toArray();
+            Arrays.sort(runs[r]);
+        }
+        return runs;
+    }
+
+    @Test
+    void testMergeMatchesSortedConcatenation() {
+        Random random = new Random(42);
+        for (int k : new int[]{1, 2, 3, 7, 64, 100}) {
+            int[][] runs = sortedRuns(k, 200, random);
+            int[] expected = Arrays.stream(runs).flatMapToInt(Arrays::stream).sorted().toArray();
+            assertArrayEquals(expected, KWayMerge.merge(runs, new Metrics()), "Failed for k=" + k);
+        }
+    }
+
+    @Test
+    void testMergeWithEmptyRuns() {
+        int[][] runs = {{}, {1, 4, 9}, {}, {2, 3}, {}};
+        assertArrayEquals(new int[]{1, 2, 3, 4, 9}, KWayMerge.merge(runs, metrics));
+        assertArrayEquals(new int[]{}, KWayMerge.merge(new int[][]{{}, {}}, metrics));
+        assertArrayEquals(new int[]{}, KWayMerge.merge(new int[0][], metrics));
+    }
+
+    @Test
+    void testMergeRecordsAllocatedBytes() {
+        int[][] runs = {{}, {1, 4, 9}, {}, {2, 3}, {}};
+        KWayMerge.merge(runs, metrics);
+        // The output, then per-run positions, heads and head flags
+        assertEquals(5L * Integer.BYTES + 5L * (2 * Integer.BYTES + 1), metrics.getAllocatedBytes());
+    }
+
+    @Test
+    void testMergeUsesLogKComparisonsPerElement() {
+        int k = 64;
+        int[][] runs = new int[k][];
+        Random random = new Random(7);
+        int total = 0;
+        for (int r = 0; r < k; r++) {
+            runs[r] = random.ints(1000).toArray();
+            Arrays.sort(runs[r]);
+            total += runs[r].length;
+        }
+
+        KWayMerge.merge(runs, metrics);
+        // log2(64) = 6 comparisons per element plus k - 1 to build the tree
+        assertTrue(metrics.getComparisons() <= 6 * total + k);
+    }
+
+    @Test
+    void testMergeNullRuns() {
+        assertThrows(IllegalArgumentException.class, () -> KWayMerge.merge(null, metrics));
+    }
+}
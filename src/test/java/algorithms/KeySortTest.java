@@ -0,0 +1,106 @@
+package algorithms;
+
+import metrics.Metrics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeySortTest {
+
+    private record Item(int id, long timestamp, double score) {}
+
+    private Metrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new Metrics();
+    }
+
+    private static Item[] randomItems(int n, int keyRange) {
+        Random random = new Random(42);
+        Item[] items = new Item[n];
+        for (int i = 0; i < n; i++) {
+            items[i] = new Item(random.nextInt(keyRange), random.nextLong(), random.nextDouble());
+        }
+        return items;
+    }
+
+    @Test
+    void testSortByIntEmptyAndNull() {
+        Item[] items = {};
+        KeySort.sortByInt(items, Item::id, metrics);
+        KeySort.sortByInt(null, Item::id, metrics);
+        assertEquals(0, items.length);
+        assertEquals(0, metrics.getComparisons());
+    }
+
+    @Test
+    void testRepeatedSortsRecordTheSameAllocations() {
+        Metrics first = new Metrics();
+        Metrics second = new Metrics();
+        KeySort.sortByLong(randomItems(1000, 50), Item::timestamp, first);
+        // The second sort reuses the scratch arrays the first one released
+        KeySort.sortByLong(randomItems(1000, 50), Item::timestamp, second);
+
+        assertTrue(first.getAllocatedBytes() > 0);
+        assertEquals(first.getAllocatedBytes(), second.getAllocatedBytes());
+        assertEquals(first.getAllocations(), second.getAllocations());
+    }
+
+    @Test
+    void testSortByIntIsStable() {
+        Item[] items = randomItems(5000, 50);
+        Item[] expected = items.clone();
+        Arrays.sort(expected, Comparator.comparingInt(Item::id));
+
+        KeySort.sortByInt(items, Item::id, metrics);
+        // Arrays.sort on objects is stable, so equal ids must keep the same relative order
+        assertArrayEquals(expected, items);
+        assertTrue(metrics.getComparisons() > 0);
+    }
+
+    @Test
+    void testSortByIntExtremeKeys() {
+        Item[] items = {
+                new Item(Integer.MAX_VALUE, 0, 0),
+                new Item(Integer.MIN_VALUE, 0, 0),
+                new Item(0, 0, 0),
+                new Item(-1, 0, 0)
+        };
+        KeySort.sortByInt(items, Item::id, metrics);
+        assertEquals(Integer.MIN_VALUE, items[0].id());
+        assertEquals(-1, items[1].id());
+        assertEquals(0, items[2].id());
+        assertEquals(Integer.MAX_VALUE, items[3].id());
+    }
+
+    @Test
+    void testSortByLong() {
+        Item[] items = randomItems(10000, 100);
+        Item[] expected = items.clone();
+        Arrays.sort(expected, Comparator.comparingLong(Item::timestamp));
+
+        KeySort.sortByLong(items, Item::timestamp, metrics);
+        assertArrayEquals(expected, items);
+    }
+
+    @Test
+    void testSortByDoubleMatchesDoubleCompare() {
+        double[] scores = {3.5, Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY, -2.25,
+                Double.POSITIVE_INFINITY, 0.0, -0.0, Double.MIN_VALUE};
+        Item[] items = new Item[scores.length];
+        for (int i = 0; i < scores.length; i++) {
+            items[i] = new Item(i, 0, scores[i]);
+        }
+        Item[] expected = items.clone();
+        Arrays.sort(expected, Comparator.comparingDouble(Item::score));
+
+        KeySort.sortByDouble(items, Item::score, metrics);
+        assertArrayEquals(expected, items);
+    }
+}
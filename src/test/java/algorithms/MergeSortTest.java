@@ -2,6 +2,14 @@ package algorithms;
 
 import metrics.Metrics;
 import org.junit.jupiter.api.Test;
+import util.ArrayUtils;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -13,4 +21,321 @@ class MergeSortTest {
         MergeSort.sort(array, metrics);
         assertArrayEquals(new int[]{1, 2, 3, 4, 5}, array);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testParallelSort() {
+        int[] array = new Random(42).ints(100000, -1000, 1000).toArray();
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        Metrics metrics = new Metrics();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            MergeSort.parallelSort(array, metrics, pool);
+        } finally {
+            pool.shutdown();
+        }
+        assertArrayEquals(expected, array);
+        assertTrue(metrics.getComparisons() > 0);
+        assertTrue(metrics.getMaxRecursionDepth() > 0);
+    }
+
+    @Test
+    void testSequentialAndParallelSortRecordTheSameRecursionTree() {
+        int[] array = new Random(42).ints(200_000).toArray();
+        int[] copy = array.clone();
+        Metrics sequential = new Metrics();
+        Metrics parallel = new Metrics();
+        MergeSort.sort(array, sequential);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            MergeSort.parallelSort(copy, parallel, pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertArrayEquals(array, copy);
+        assertEquals(1, sequential.getLevelNodes()[0]);
+        assertTrue(sequential.getLevelNodes().length > 1);
+        assertArrayEquals(sequential.getLevelNodes(), parallel.getLevelNodes());
+        assertEquals(sequential.getComparisons(), parallel.getComparisons());
+        assertEquals(sequential.getMaxRecursionDepth(), parallel.getMaxRecursionDepth());
+    }
+
+    @Test
+    void testNaturalSortMatchesArraysSort() {
+        Random random = new Random(42);
+        for (int n : new int[]{0, 1, 2, 31, 64, 1000, 50000}) {
+            int[] array = random.ints(n, -100, 100).toArray();
+            int[] expected = array.clone();
+            Arrays.sort(expected);
+            MergeSort.naturalSort(array, new Metrics());
+            assertArrayEquals(expected, array, "Failed for n=" + n);
+        }
+    }
+
+    @Test
+    void testNaturalSortPresortedInputIsLinear() {
+        int n = 10000;
+        int[] sorted = new int[n];
+        int[] reversed = new int[n];
+        for (int i = 0; i < n; i++) {
+            sorted[i] = i;
+            reversed[i] = n - i;
+        }
+
+        Metrics sortedMetrics = new Metrics();
+        MergeSort.naturalSort(sorted, sortedMetrics);
+        assertEquals(n - 1, sortedMetrics.getComparisons());
+        assertEquals(0, sortedMetrics.getAllocations());
+
+        Metrics reversedMetrics = new Metrics();
+        MergeSort.naturalSort(reversed, reversedMetrics);
+        assertEquals(n - 1, reversedMetrics.getComparisons());
+        for (int i = 0; i < n; i++) {
+            assertEquals(i + 1, reversed[i]);
+        }
+    }
+
+    @Test
+    void testNaturalSortSawtooth() {
+        int n = 40000;
+        int[] array = new int[n];
+        for (int i = 0; i < n; i++) {
+            array[i] = i % 5000;
+        }
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        Metrics metrics = new Metrics();
+        MergeSort.naturalSort(array, metrics);
+        assertArrayEquals(expected, array);
+        // Run detection plus three merge levels for eight runs, far below n log n
+        assertTrue(metrics.getComparisons() < 5 * n);
+    }
+
+    @Test
+    void testSortBottomUpMatchesArraysSort() {
+        Random random = new Random(42);
+        for (int n : new int[]{0, 1, 7, 8, 15, 100, 1023, 50000}) {
+            int[] array = random.ints(n, -1000, 1000).toArray();
+            int[] expected = array.clone();
+            Arrays.sort(expected);
+            MergeSort.sortBottomUp(array, new Metrics());
+            assertArrayEquals(expected, array, "Failed for n=" + n);
+        }
+    }
+
+    @Test
+    void testSortBottomUpMovesFewerElements() {
+        int[] array = new Random(42).ints(4096).toArray();
+        Metrics topDown = new Metrics();
+        Metrics bottomUp = new Metrics();
+        MergeSort.sort(array.clone(), topDown);
+        MergeSort.sortBottomUp(array.clone(), bottomUp);
+        assertTrue(bottomUp.getElementMoves() < topDown.getElementMoves());
+    }
+
+    @Test
+    void testSortSkipsMergesOnSortedInput() {
+        int n = 1 << 14;
+        int[] array = new int[n];
+        for (int i = 0; i < n; i++) {
+            array[i] = i;
+        }
+
+        Metrics metrics = new Metrics();
+        MergeSort.sort(array, metrics);
+        // Insertion sort leaves plus one check per merge, no merge work at all
+        assertTrue(metrics.getComparisons() < 2 * n);
+        assertEquals(0, metrics.getElementMoves());
+    }
+
+    @Test
+    void testSortGallopsOnInterleavedBlocks() {
+        int n = 1 << 14;
+        int[] blocks = new int[n];
+        for (int i = 0; i < n; i++) {
+            // Large sorted blocks in shuffled block order
+            int block = i / 1024;
+            blocks[i] = ((block * 7) % 16) * 1024 + i % 1024;
+        }
+        int[] expected = blocks.clone();
+        Arrays.sort(expected);
+
+        Metrics metrics = new Metrics();
+        MergeSort.sort(blocks, metrics);
+        assertArrayEquals(expected, blocks);
+        int log2n = 14;
+        assertTrue(metrics.getComparisons() < n * log2n / 2);
+    }
+
+    @Test
+    void testSortWithDuplicatesRandomized() {
+        Random random = new Random(3);
+        for (int trial = 0; trial < 200; trial++) {
+            int[] array = random.ints(random.nextInt(500), 0, 1 + random.nextInt(20)).toArray();
+            int[] expected = array.clone();
+            Arrays.sort(expected);
+            MergeSort.sort(array, new Metrics());
+            assertArrayEquals(expected, array);
+        }
+    }
+
+    @Test
+    void testSortLowMemoryMatchesArraysSort() {
+        Random random = new Random(42);
+        for (int n : new int[]{0, 1, 8, 9, 100, 4097, 100000}) {
+            int[] array = random.ints(n, -500, 500).toArray();
+            int[] expected = array.clone();
+            Arrays.sort(expected);
+            MergeSort.sortLowMemory(array, new Metrics());
+            assertArrayEquals(expected, array, "Failed for n=" + n);
+        }
+    }
+
+    @Test
+    void testSortLowMemoryUsesSqrtBuffer() {
+        int n = 1 << 16;
+        int[] array = new Random(42).ints(n).toArray();
+        Metrics metrics = new Metrics();
+        MergeSort.sortLowMemory(array, metrics);
+        assertTrue(ArrayUtils.isSorted(array));
+        assertEquals(1, metrics.getAllocations());
+        assertEquals(256L * Integer.BYTES, metrics.getAllocatedBytes());
+    }
+
+    @Test
+    void testAllocationsDoNotDependOnEarlierSorts() {
+        // The second sort reuses the first one's scratch buffer but must report the same cost
+        int[] data = new Random(42).ints(3000).toArray();
+        Metrics first = new Metrics();
+        Metrics second = new Metrics();
+        MergeSort.sort(data.clone(), first);
+        MergeSort.sort(data.clone(), second);
+        assertEquals(first.getAllocations(), second.getAllocations());
+        assertEquals(first.getAllocatedBytes(), second.getAllocatedBytes());
+        assertTrue(second.getAllocations() > 0);
+    }
+
+    @Test
+    void testSortLong() {
+        long[] array = new Random(42).longs(5000).toArray();
+        long[] expected = array.clone();
+        Arrays.sort(expected);
+        MergeSort.sort(array, new Metrics());
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void testSortLongCostsTheSameAsInt() {
+        // Both run the kernels generated from one template, so the long merges gallop too
+        int[] ints = new int[5000];
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = i % 1000 < 900 ? i : -i;
+        }
+        long[] longs = Arrays.stream(ints).asLongStream().toArray();
+        Metrics intMetrics = new Metrics();
+        Metrics longMetrics = new Metrics();
+        MergeSort.sort(ints, intMetrics);
+        MergeSort.sort(longs, longMetrics);
+
+        assertArrayEquals(Arrays.stream(ints).asLongStream().toArray(), longs);
+        if (!Simd.isEnabled()) {
+            assertEquals(intMetrics.getComparisons(), longMetrics.getComparisons());
+        }
+    }
+
+    @Test
+    void testSortDoubleOrdersNaNAndSignedZero() {
+        double[] array = {2.5, Double.NaN, 0.0, -0.0, Double.NEGATIVE_INFINITY, -1.0,
+                Double.POSITIVE_INFINITY, Double.NaN, -0.0, Double.MIN_VALUE};
+        double[] expected = array.clone();
+        Arrays.sort(expected);
+        MergeSort.sort(array, new Metrics());
+        assertArrayEquals(expected, array);
+        assertEquals(Double.doubleToRawLongBits(-0.0), Double.doubleToRawLongBits(array[2]));
+    }
+
+    @Test
+    void testSortFloat() {
+        Random random = new Random(42);
+        float[] array = new float[3000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = random.nextInt(20) == 0 ? Float.NaN : (random.nextFloat() - 0.5f) * 100;
+        }
+        float[] expected = array.clone();
+        Arrays.sort(expected);
+        MergeSort.sort(array, new Metrics());
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void testSortMemorySegment() {
+        int[] array = new Random(42).ints(20000, -5000, 5000).toArray();
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment segment = arena.allocate((long) array.length * Integer.BYTES, Integer.BYTES);
+            MemorySegment.copy(array, 0, segment, ValueLayout.JAVA_INT, 0, array.length);
+            MergeSort.sort(segment, new Metrics());
+            assertArrayEquals(expected, segment.toArray(ValueLayout.JAVA_INT));
+        }
+    }
+
+    @Test
+    void testSortMemorySegmentRejectsPartialInts() {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment segment = arena.allocate(6, 1);
+            assertThrows(IllegalArgumentException.class, () -> MergeSort.sort(segment, new Metrics()));
+        }
+    }
+
+    @Test
+    void testSortMemorySegmentRejectsNull() {
+        assertThrows(IllegalArgumentException.class, () -> MergeSort.sort((MemorySegment) null, new Metrics()));
+    }
+
+    @Test
+    void testSortWithReusedBuffer() {
+        Random random = new Random(42);
+        int[] buffer = new int[5000];
+        for (int n : new int[]{0, 1, 17, 1000, 5000}) {
+            int[] array = random.ints(n).toArray();
+            int[] expected = array.clone();
+            Arrays.sort(expected);
+            MergeSort.sort(array, buffer, new Metrics());
+            assertArrayEquals(expected, array);
+        }
+        assertThrows(IllegalArgumentException.class, () -> MergeSort.sort(new int[10], new int[9], new Metrics()));
+    }
+
+    @Test
+    void testSortIterativeMatchesRecursive() {
+        Random random = new Random(42);
+        for (int n : new int[]{0, 1, 8, 9, 1000, 65537}) {
+            int[] array = random.ints(n, 0, 500).toArray();
+            int[] recursive = array.clone();
+            Metrics recursiveMetrics = new Metrics();
+            MergeSort.sort(recursive, recursiveMetrics);
+
+            Metrics iterativeMetrics = new Metrics();
+            MergeSort.sortIterative(array, iterativeMetrics);
+            assertArrayEquals(recursive, array, "Failed for n=" + n);
+            assertEquals(recursiveMetrics.getComparisons(), iterativeMetrics.getComparisons());
+            assertEquals(recursiveMetrics.getMaxRecursionDepth(), iterativeMetrics.getMaxRecursionDepth());
+        }
+    }
+
+    @Test
+    void testSortIterativeOnSmallThreadStack() throws InterruptedException {
+        int[] array = new Random(7).ints(1_000_000).toArray();
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+        Thread thread = new Thread(null, () -> MergeSort.sortIterative(array, new Metrics()), "small-stack", 16 * 1024);
+        thread.start();
+        thread.join();
+        assertArrayEquals(expected, array);
+    }
+}
@@ -0,0 +1,88 @@
+package algorithms;
+
+import metrics.Metrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderStatisticTreeTest {
+
+    private Metrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new Metrics();
+    }
+
+    @Test
+    void testMixedOperationsMatchDeterministicSelect() {
+        Random random = new Random(42);
+        OrderStatisticTree tree = new OrderStatisticTree(metrics);
+        List<Integer> values = new ArrayList<>();
+
+        for (int step = 0; step < 20000; step++) {
+            int op = random.nextInt(10);
+            if (op < 5 || values.isEmpty()) {
+                int value = random.nextInt(500);
+                tree.insert(value);
+                values.add(value);
+            } else if (op < 8) {
+                int value = random.nextInt(500);
+                assertEquals(values.remove(Integer.valueOf(value)), tree.remove(value));
+            } else {
+                int[] snapshot = values.stream().mapToInt(Integer::intValue).toArray();
+                int k = random.nextInt(snapshot.length);
+                int expected = DeterministicSelect.select(snapshot, k, new Metrics());
+                assertEquals(expected, tree.select(k), "Failed for k=" + k);
+                assertTrue(tree.rank(expected) <= k);
+                assertTrue(tree.rank(expected) + tree.count(expected) > k);
+            }
+            assertEquals(values.size(), tree.size());
+        }
+    }
+
+    @Test
+    void testRankCountsSmallerElements() {
+        OrderStatisticTree tree = new OrderStatisticTree(metrics);
+        for (int value : new int[]{5, 1, 5, 9, 3, 5}) {
+            tree.insert(value);
+        }
+        assertEquals(0, tree.rank(1));
+        assertEquals(2, tree.rank(5));
+        assertEquals(5, tree.rank(9));
+        assertEquals(6, tree.rank(100));
+        assertEquals(3, tree.count(5));
+        assertEquals(0, tree.count(4));
+    }
+
+    @Test
+    void testRemoveMissingAndEmpty() {
+        OrderStatisticTree tree = new OrderStatisticTree(metrics);
+        assertTrue(tree.isEmpty());
+        assertFalse(tree.remove(3));
+        tree.insert(3);
+        assertTrue(tree.remove(3));
+        assertFalse(tree.remove(3));
+        assertTrue(tree.isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> tree.select(0));
+    }
+
+    @Test
+    void testSortedInsertsStayShallow() {
+        OrderStatisticTree tree = new OrderStatisticTree(metrics);
+        int n = 100000;
+        for (int i = 0; i < n; i++) {
+            tree.insert(i);
+        }
+        for (int k = 0; k < n; k += 997) {
+            assertEquals(k, tree.select(k));
+        }
+        assertTrue(metrics.getMaxRecursionDepth() < 100,
+                "Treap depth should be logarithmic, got: " + metrics.getMaxRecursionDepth());
+    }
+}
@@ -5,8 +5,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import util.ArrayUtils;
 
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
 import java.util.Arrays;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -132,7 +136,7 @@ class QuickSortTest {
         QuickSort.sort(array2, metrics2);
 
         // Comparisons and depth should be similar (may vary due to randomization)
-        int diff = Math.abs(metrics1.getComparisons() - metrics2.getComparisons());
+        long diff = Math.abs(metrics1.getComparisons() - metrics2.getComparisons());
         assertTrue(diff <= metrics1.getComparisons() * 0.2);
 
         int depthDiff = Math.abs(metrics1.getMaxRecursionDepth() - metrics2.getMaxRecursionDepth());
@@ -279,4 +283,131 @@ class QuickSortTest {
         }
         return true;
     }
-}
\ No newline at end of file
+
+    @Test
+    void testQuickSortLong() {
+        long[] array = new Random(42).longs(5000).toArray();
+        long[] expected = array.clone();
+        Arrays.sort(expected);
+        QuickSort.sort(array, metrics);
+        assertArrayEquals(expected, array);
+        assertTrue(metrics.getComparisons() > 0);
+    }
+
+    @Test
+    void testQuickSortDoubleMatchesArraysSort() {
+        double[] array = {1.5, -0.0, Double.NaN, 0.0, -7.25, Double.NEGATIVE_INFINITY, 0.0, -0.0};
+        double[] expected = array.clone();
+        Arrays.sort(expected);
+        QuickSort.sort(array, metrics);
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void testQuickSortFloatMatchesArraysSort() {
+        float[] array = {1.5f, -0.0f, Float.NaN, 0.0f, -7.25f, Float.MAX_VALUE, -Float.MIN_VALUE};
+        float[] expected = array.clone();
+        Arrays.sort(expected);
+        QuickSort.sort(array, metrics);
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void testQuickSortMemorySegment() {
+        int[] array = new Random(42).ints(20000, -100, 100).toArray();
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment segment = arena.allocate((long) array.length * Integer.BYTES, Integer.BYTES);
+            MemorySegment.copy(array, 0, segment, ValueLayout.JAVA_INT, 0, array.length);
+            QuickSort.sort(segment, metrics);
+            assertArrayEquals(expected, segment.toArray(ValueLayout.JAVA_INT));
+        }
+        assertTrue(metrics.getComparisons() > 0);
+    }
+
+    @Test
+    void testQuickSortMemorySegmentRejectsNull() {
+        assertThrows(IllegalArgumentException.class, () -> QuickSort.sort((MemorySegment) null, metrics));
+    }
+
+    @Test
+    void testQuickSortBlockPartitionMatchesArraysSort() {
+        Random random = new Random(42);
+        for (int n : new int[]{0, 1, 2, 255, 256, 257, 1000, 50000}) {
+            for (int bound : new int[]{2, 100, Integer.MAX_VALUE}) {
+                int[] array = random.ints(n, 0, bound).toArray();
+                int[] expected = array.clone();
+                Arrays.sort(expected);
+                QuickSort.sortBlockPartition(array, metrics);
+                assertArrayEquals(expected, array);
+            }
+        }
+    }
+
+    @Test
+    void testQuickSortBlockPartitionLong() {
+        long[] array = new Random(42).longs(50000).toArray();
+        long[] expected = array.clone();
+        Arrays.sort(expected);
+        QuickSort.sortBlockPartition(array, metrics);
+        assertArrayEquals(expected, array);
+        assertTrue(metrics.getComparisons() > 0);
+    }
+
+    @Test
+    void testQuickSortBlockPartitionSortedAndReversed() {
+        int[] sorted = new int[10000];
+        int[] reversed = new int[10000];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i;
+            reversed[i] = sorted.length - i;
+        }
+        int[] expected = reversed.clone();
+        Arrays.sort(expected);
+
+        QuickSort.sortBlockPartition(sorted, metrics);
+        QuickSort.sortBlockPartition(reversed, metrics);
+
+        assertTrue(ArrayUtils.isSorted(sorted));
+        assertArrayEquals(expected, reversed);
+    }
+
+    @Test
+    void testQuickSortRecordsLevelNodes() {
+        int[] array = new Random(42).ints(200_000).toArray();
+        Metrics metrics = new Metrics();
+        QuickSort.sort(array, metrics);
+
+        assertTrue(ArrayUtils.isSorted(array));
+        // The range is larger than the grain, so the runner partitions it before the kernel takes over
+        assertTrue(metrics.getLevelNodes().length > 1);
+        assertTrue(metrics.getLevelNodes()[0] >= 1);
+    }
+
+    @Test
+    void testQuickSortParallelMatchesArraysSort() {
+        Random random = new Random(42);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            // The largest size takes the parallel partition path at the top levels
+            for (int n : new int[]{0, 1, 100, 50000, 3_000_000}) {
+                // Heavy duplicates only at the smaller sizes: Lomuto partitioning is quadratic on them
+                for (int bound : n <= 50000 ? new int[]{10, Integer.MAX_VALUE} : new int[]{Integer.MAX_VALUE}) {
+                    int[] array = random.ints(n, 0, bound).toArray();
+                    int[] expected = array.clone();
+                    Arrays.sort(expected);
+                    Metrics parallelMetrics = new Metrics();
+                    QuickSort.parallelSort(array, parallelMetrics, pool);
+                    assertArrayEquals(expected, array);
+                    if (n > 1) {
+                        assertTrue(parallelMetrics.getComparisons() > 0);
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package algorithms;
+
+import metrics.Metrics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RadixSortTest {
+
+    private Metrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new Metrics();
+    }
+
+    @Test
+    void testRadixSortEmptyAndNull() {
+        int[] array = {};
+        RadixSort.sort(array, metrics);
+        assertArrayEquals(new int[]{}, array);
+        RadixSort.sort(null, metrics);
+        RadixSort.parallelSort(null, metrics);
+        assertEquals(0, metrics.getAllocations());
+    }
+
+    @Test
+    void testRadixSortNegativeValues() {
+        int[] array = {3, -1, Integer.MIN_VALUE, 0, Integer.MAX_VALUE, -256, 255};
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+        RadixSort.sort(array, metrics);
+        assertArrayEquals(expected, array);
+        assertEquals(0, metrics.getComparisons());
+    }
+
+    @Test
+    void testRadixSortAllSameElements() {
+        int[] array = {7, 7, 7, 7, 7};
+        RadixSort.sort(array, metrics);
+        assertArrayEquals(new int[]{7, 7, 7, 7, 7}, array);
+    }
+
+    @Test
+    void testRadixSortLargeRandomArray() {
+        int[] array = new Random(42).ints(10000).toArray();
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+        RadixSort.sort(array, metrics);
+        assertArrayEquals(expected, array);
+        assertEquals(10000L * Integer.BYTES, metrics.getAllocatedBytes());
+    }
+
+    @Test
+    void testParallelRadixSortMatchesArraysSort() {
+        int[] array = new Random(42).ints(1 << 20).toArray();
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            RadixSort.parallelSort(array, metrics, pool);
+        } finally {
+            pool.shutdown();
+        }
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void testParallelRadixSortSmallRange() {
+        Random random = new Random(7);
+        int[] array = new int[1 << 19];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = random.nextInt(16);
+        }
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        RadixSort.parallelSort(array, metrics);
+        assertArrayEquals(expected, array);
+    }
+}
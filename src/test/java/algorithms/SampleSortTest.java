@@ -0,0 +1,78 @@
+package algorithms;
+
+import metrics.Metrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import util.ArrayUtils;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SampleSortTest {
+
+    private Metrics metrics;
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new Metrics();
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void testParallelSortMatchesArraysSort() {
+        Random random = new Random(42);
+        for (int n : new int[]{0, 1, 1000, 70000, 1_000_000}) {
+            for (int bound : new int[]{3, 1000, Integer.MAX_VALUE}) {
+                int[] array = random.ints(n, 0, bound).map(v -> random.nextBoolean() ? v : -v).toArray();
+                int[] expected = array.clone();
+                Arrays.sort(expected);
+                SampleSort.parallelSort(array, new Metrics(), pool);
+                assertArrayEquals(expected, array, "Failed for n=" + n + ", bound=" + bound);
+            }
+        }
+    }
+
+    @Test
+    void testParallelSortPresortedAndAllEqual() {
+        int n = 500_000;
+        int[] sorted = new int[n];
+        int[] reversed = new int[n];
+        int[] equal = new int[n];
+        for (int i = 0; i < n; i++) {
+            sorted[i] = i;
+            reversed[i] = n - i;
+            equal[i] = 42;
+        }
+        int[] expectedReversed = reversed.clone();
+        Arrays.sort(expectedReversed);
+
+        SampleSort.parallelSort(sorted, metrics, pool);
+        SampleSort.parallelSort(reversed, metrics, pool);
+        SampleSort.parallelSort(equal, metrics, pool);
+
+        assertTrue(ArrayUtils.isSorted(sorted));
+        assertArrayEquals(expectedReversed, reversed);
+        assertTrue(Arrays.stream(equal).allMatch(v -> v == 42));
+    }
+
+    @Test
+    void testParallelSortAggregatesMetrics() {
+        int[] array = new Random(7).ints(1_000_000).toArray();
+        SampleSort.parallelSort(array, metrics, pool);
+        assertTrue(ArrayUtils.isSorted(array));
+        // At least the classification comparisons (one per tree level per element)
+        assertTrue(metrics.getComparisons() >= array.length);
+        assertTrue(metrics.getElementMoves() >= 2L * array.length);
+        assertTrue(metrics.getMaxRecursionDepth() > 0);
+    }
+}
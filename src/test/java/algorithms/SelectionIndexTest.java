@@ -0,0 +1,79 @@
+package algorithms;
+
+import metrics.Metrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SelectionIndexTest {
+
+    private Metrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new Metrics();
+    }
+
+    @Test
+    void testRandomQueriesMatchSortedArray() {
+        Random random = new Random(42);
+        for (int bound : new int[]{5, 1000, Integer.MAX_VALUE}) {
+            int[] data = random.ints(20000, 0, bound).toArray();
+            int[] sorted = data.clone();
+            Arrays.sort(sorted);
+            SelectionIndex index = new SelectionIndex(data, metrics);
+            for (int q = 0; q < 2000; q++) {
+                int k = random.nextInt(data.length);
+                assertEquals(sorted[k], index.select(k), "Failed for k=" + k);
+            }
+        }
+    }
+
+    @Test
+    void testInputIsNotModified() {
+        int[] data = {9, 3, 7, 1, 5};
+        SelectionIndex index = new SelectionIndex(data, metrics);
+        assertEquals(1, index.select(0));
+        assertEquals(9, index.select(4));
+        assertArrayEquals(new int[]{9, 3, 7, 1, 5}, data);
+    }
+
+    @Test
+    void testRepeatedQueriesGetCheaper() {
+        int n = 100000;
+        int[] data = new Random(7).ints(n).toArray();
+        SelectionIndex index = new SelectionIndex(data, metrics);
+
+        index.select(n / 2);
+        long firstCost = metrics.getComparisons();
+        index.select(n / 2);
+        assertEquals(firstCost, metrics.getComparisons(), "Resolved position should cost nothing");
+
+        index.select(n / 2 + 1);
+        assertTrue(metrics.getComparisons() - firstCost < firstCost / 2);
+    }
+
+    @Test
+    void testAllPositionsQueriedResolvesEverything() {
+        int[] data = new Random(3).ints(500, -100, 100).toArray();
+        int[] sorted = data.clone();
+        Arrays.sort(sorted);
+        SelectionIndex index = new SelectionIndex(data, metrics);
+        for (int k = 0; k < data.length; k++) {
+            assertEquals(sorted[k], index.select(k));
+        }
+        assertEquals(data.length, index.resolvedCount());
+    }
+
+    @Test
+    void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> new SelectionIndex(new int[0], metrics));
+        SelectionIndex index = new SelectionIndex(new int[]{1, 2}, metrics);
+        assertThrows(IllegalArgumentException.class, () -> index.select(2));
+        assertThrows(IllegalArgumentException.class, () -> index.select(-1));
+    }
+}
@@ -0,0 +1,76 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VectorKernelsTest {
+
+    @Test
+    void testPartitionMatchesContract() {
+        Random random = new Random(7);
+        for (int n = 1; n <= 300; n++) {
+            int[] array = random.ints(n, -50, 50).toArray();
+            int[] sorted = array.clone();
+            Arrays.sort(sorted);
+            int pivotIndex = random.nextInt(n);
+            int pivotValue = array[pivotIndex];
+
+            int position = VectorKernels.partition(array, 0, n - 1, pivotIndex);
+
+            assertEquals(pivotValue, array[position]);
+            for (int i = 0; i < position; i++) assertTrue(array[i] < pivotValue);
+            for (int i = position + 1; i < n; i++) assertTrue(array[i] >= pivotValue);
+            Arrays.sort(array);
+            assertArrayEquals(sorted, array);
+        }
+    }
+
+    @Test
+    void testPartitionSubrange() {
+        int[] array = new Random(3).ints(1000, 0, 1000).toArray();
+        int[] original = array.clone();
+
+        int position = VectorKernels.partition(array, 100, 899, 500);
+
+        assertArrayEquals(Arrays.copyOfRange(original, 0, 100), Arrays.copyOfRange(array, 0, 100));
+        assertArrayEquals(Arrays.copyOfRange(original, 900, 1000), Arrays.copyOfRange(array, 900, 1000));
+        for (int i = 100; i < position; i++) assertTrue(array[i] < array[position]);
+        for (int i = position + 1; i < 900; i++) assertTrue(array[i] >= array[position]);
+    }
+
+    @Test
+    void testMergeRandomRuns() {
+        Random random = new Random(11);
+        int lanes = VectorKernels.lanes();
+        for (int trial = 0; trial < 500; trial++) {
+            int length1 = lanes + random.nextInt(200);
+            int length2 = lanes + random.nextInt(200);
+            int[] src = random.ints(length1 + length2, -100, 100).toArray();
+            Arrays.sort(src, 0, length1);
+            Arrays.sort(src, length1, length1 + length2);
+            int[] dest = new int[src.length];
+
+            VectorKernels.merge(src, 0, length1, length1, src.length, dest, 0);
+
+            int[] expected = src.clone();
+            Arrays.sort(expected);
+            assertArrayEquals(expected, dest);
+        }
+    }
+
+    @Test
+    void testMergeDisjointRuns() {
+        int lanes = VectorKernels.lanes();
+        int[] src = new int[4 * lanes];
+        for (int i = 0; i < src.length; i++) src[i] = i < 3 * lanes ? i + lanes : i - 3 * lanes;
+        int[] dest = new int[src.length];
+
+        VectorKernels.merge(src, 0, 3 * lanes, 3 * lanes, src.length, dest, 0);
+
+        for (int i = 0; i < dest.length; i++) assertEquals(i, dest[i]);
+    }
+}
@@ -0,0 +1,68 @@
+package batch;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchSorterTest {
+
+    @Test
+    void testMixedJobsMatchArraysSort() {
+        Random random = new Random(42);
+        List<SortJob> jobs = new ArrayList<>();
+        List<int[]> expected = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            int[] array = random.ints(random.nextInt(2000), -500, 500).toArray();
+            int[] sorted = array.clone();
+            Arrays.sort(sorted);
+            expected.add(sorted);
+            switch (i % 3) {
+                case 0 -> jobs.add(SortJob.mergeSort(array));
+                case 1 -> jobs.add(SortJob.quickSort(array));
+                default -> jobs.add(array.length == 0 ? SortJob.quickSort(array)
+                        : SortJob.select(array, random.nextInt(array.length)));
+            }
+        }
+
+        BatchSorter.run(jobs, 4);
+
+        for (int i = 0; i < jobs.size(); i++) {
+            SortJob job = jobs.get(i);
+            if (job.getKind() == SortJob.Kind.SELECT) {
+                assertEquals(expected.get(i)[job.getK()], job.getSelected());
+            } else {
+                assertArrayEquals(expected.get(i), job.getArray());
+            }
+            if (job.getArray().length > 1) {
+                assertTrue(job.getMetrics().getComparisons() > 0);
+            }
+        }
+    }
+
+    @Test
+    void testEmptyBatch() {
+        assertDoesNotThrow(() -> BatchSorter.run(new ArrayList<>(), 4));
+    }
+
+    @Test
+    void testJobFailurePropagates() {
+        List<SortJob> jobs = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            jobs.add(SortJob.mergeSort(new int[]{3, 1, 2}));
+        }
+        jobs.add(SortJob.select(new int[]{1, 2}, 5));
+
+        assertThrows(IllegalArgumentException.class, () -> BatchSorter.run(jobs, 2));
+    }
+
+    @Test
+    void testSelectedOnlyForSelectJobs() {
+        SortJob job = SortJob.mergeSort(new int[]{2, 1});
+        assertThrows(IllegalStateException.class, job::getSelected);
+    }
+}
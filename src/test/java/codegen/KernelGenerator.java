@@ -0,0 +1,67 @@
+package codegen;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+// Expands src/main/templates/Kernels.java.template into algorithms.IntKernels and
+// algorithms.LongKernels. $Type$ and $type$ become the class prefix and the primitive, and
+// lines between "//#if <primitive>" and "//#endif" are kept only for that primitive.
+// Run from the repository root after editing the template; KernelGeneratorTest fails while
+// the committed classes are out of date
+public final class KernelGenerator {
+    static final Path TEMPLATE = Paths.get("src", "main", "templates", "Kernels.java.template");
+    static final Path OUTPUT_DIR = Paths.get("src", "main", "java", "algorithms");
+    static final String[] PRIMITIVES = {"int", "long"};
+
+    private KernelGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        String template = Files.readString(TEMPLATE);
+        for (String primitive : PRIMITIVES) {
+            Files.writeString(output(primitive), generate(template, primitive));
+        }
+    }
+
+    static Path output(String primitive) {
+        return OUTPUT_DIR.resolve(className(primitive) + ".java");
+    }
+
+    static String generate(String template, String primitive) {
+        StringBuilder out = new StringBuilder(template.length());
+        String condition = null;
+        for (String line : template.split("\n", -1)) {
+            String trimmed = line.trim();
+            if (trimmed.startsWith("//#if ")) {
+                if (condition != null) {
+                    throw new IllegalArgumentException("Nested //#if in template");
+                }
+                condition = trimmed.substring("//#if ".length()).trim();
+                continue;
+            }
+            if (trimmed.equals("//#endif")) {
+                if (condition == null) {
+                    throw new IllegalArgumentException("//#endif without //#if in template");
+                }
+                condition = null;
+                continue;
+            }
+            if (condition != null && !condition.equals(primitive)) continue;
+            out.append(line).append('\n');
+        }
+        if (condition != null) {
+            throw new IllegalArgumentException("Unterminated //#if in template");
+        }
+        // split keeps the text after the last newline, so drop the newline appended to it
+        out.setLength(out.length() - 1);
+
+        String capitalized = Character.toUpperCase(primitive.charAt(0)) + primitive.substring(1);
+        return out.toString().replace("$Type$", capitalized).replace("$type$", primitive);
+    }
+
+    private static String className(String primitive) {
+        return Character.toUpperCase(primitive.charAt(0)) + primitive.substring(1) + "Kernels";
+    }
+}
@@ -0,0 +1,34 @@
+package codegen;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KernelGeneratorTest {
+
+    @Test
+    void testGeneratedKernelsMatchTemplate() throws IOException {
+        String template = Files.readString(KernelGenerator.TEMPLATE);
+        for (String primitive : KernelGenerator.PRIMITIVES) {
+            assertEquals(KernelGenerator.generate(template, primitive),
+                    Files.readString(KernelGenerator.output(primitive)),
+                    KernelGenerator.output(primitive) + " is stale; run codegen.KernelGenerator");
+        }
+    }
+
+    @Test
+    void testConditionalBlocksKeepOnlyMatchingPrimitive() {
+        String template = "a $type$\n//#if int\nint only\n//#endif\n$Type$ b\n";
+        assertEquals("a int\nint only\nInt b\n", KernelGenerator.generate(template, "int"));
+        assertEquals("a long\nLong b\n", KernelGenerator.generate(template, "long"));
+    }
+
+    @Test
+    void testUnterminatedBlockRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> KernelGenerator.generate("//#if int\nx\n", "int"));
+    }
+}
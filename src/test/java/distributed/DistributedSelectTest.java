@@ -0,0 +1,126 @@
+package distributed;
+
+import metrics.Metrics;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DistributedSelectTest {
+
+    private static int[][] shardData(Random random, int shards, int maxSize, int bound) {
+        int[][] data = new int[shards][];
+        for (int s = 0; s < shards; s++) {
+            data[s] = random.ints(random.nextInt(maxSize + 1), -bound, bound).toArray();
+        }
+        return data;
+    }
+
+    @Test
+    void testLocalShardsMatchSortedUnion() throws Exception {
+        Random random = new Random(42);
+        for (int bound : new int[]{3, 1000, Integer.MAX_VALUE}) {
+            int[][] data = shardData(random, 6, 20000, bound);
+            int[] sorted = Arrays.stream(data).flatMapToInt(Arrays::stream).sorted().toArray();
+            List<LocalShard> shards = new ArrayList<>();
+            for (int[] slice : data) {
+                shards.add(new LocalShard(slice, new Metrics()));
+            }
+            DistributedSelect select = new DistributedSelect(shards);
+
+            for (int q = 0; q < 50; q++) {
+                int k = random.nextInt(sorted.length);
+                assertEquals(sorted[k], select.select(k), "Failed for k=" + k + ", bound=" + bound);
+                assertTrue(select.getRounds() < 64);
+                assertEquals(2L * shards.size() * (2 * select.getRounds()), select.getMessages());
+            }
+        }
+    }
+
+    @Test
+    void testRemoteShardsOverLocalhost() throws Exception {
+        Random random = new Random(7);
+        int[][] data = shardData(random, 3, 5000, 100);
+        int[] sorted = Arrays.stream(data).flatMapToInt(Arrays::stream).sorted().toArray();
+
+        ExecutorService executor = Executors.newCachedThreadPool();
+        List<ShardServer> servers = new ArrayList<>();
+        List<RemoteShard> shards = new ArrayList<>();
+        try {
+            for (int[] slice : data) {
+                ShardServer server = new ShardServer(0, new LocalShard(slice, new Metrics()));
+                servers.add(server);
+                executor.submit(() -> {
+                    server.serve();
+                    return null;
+                });
+                shards.add(new RemoteShard("localhost", server.getPort()));
+            }
+            DistributedSelect select = new DistributedSelect(shards);
+            for (int k : new int[]{0, sorted.length / 2, sorted.length - 1}) {
+                assertEquals(sorted[k], select.select(k));
+            }
+        } finally {
+            for (RemoteShard shard : shards) shard.close();
+            for (ShardServer server : servers) server.close();
+            executor.shutdownNow();
+        }
+    }
+
+    // Waits in every partition call until all shards of the round have been called
+    private static class BarrierShard implements Shard {
+        private final Shard shard;
+        private final CyclicBarrier barrier;
+
+        BarrierShard(Shard shard, CyclicBarrier barrier) {
+            this.shard = shard;
+            this.barrier = barrier;
+        }
+
+        @Override
+        public Window reset() throws IOException { return shard.reset(); }
+
+        @Override
+        public Split partition(int pivot) throws IOException {
+            try {
+                barrier.await(10, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                throw new IOException("Shards were not called concurrently", e);
+            }
+            return shard.partition(pivot);
+        }
+
+        @Override
+        public Window narrow(boolean keepLess) throws IOException { return shard.narrow(keepLess); }
+    }
+
+    @Test
+    void testRoundsCallShardsConcurrently() throws Exception {
+        Random random = new Random(3);
+        int[][] data = shardData(random, 4, 2000, 1000);
+        int[] sorted = Arrays.stream(data).flatMapToInt(Arrays::stream).sorted().toArray();
+        CyclicBarrier barrier = new CyclicBarrier(data.length);
+        List<Shard> shards = new ArrayList<>();
+        for (int[] slice : data) {
+            shards.add(new BarrierShard(new LocalShard(slice, new Metrics()), barrier));
+        }
+
+        assertEquals(sorted[sorted.length / 2], new DistributedSelect(shards).select(sorted.length / 2));
+    }
+
+    @Test
+    void testInvalidRank() {
+        DistributedSelect select = new DistributedSelect(List.of(new LocalShard(new int[]{1, 2}, new Metrics())));
+        assertThrows(IllegalArgumentException.class, () -> select.select(2));
+        assertThrows(IllegalArgumentException.class, () -> new DistributedSelect(List.of()));
+    }
+}
@@ -0,0 +1,128 @@
+package distributed;
+
+import metrics.Metrics;
+import org.junit.jupiter.api.Test;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DistributedSortTest {
+
+    private static SortReport runCluster(int[][] slices, SortWorker[] workers) throws Exception {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try (SortCoordinator coordinator = new SortCoordinator(0, slices.length)) {
+            Future<SortReport> report = executor.submit(coordinator::run);
+            Future<?>[] running = new Future<?>[slices.length];
+            for (int w = 0; w < slices.length; w++) {
+                workers[w] = new SortWorker(slices[w], new Metrics());
+                SortWorker worker = workers[w];
+                running[w] = executor.submit(() -> {
+                    worker.run("localhost", coordinator.getPort());
+                    return null;
+                });
+            }
+            for (Future<?> future : running) {
+                future.get();
+            }
+            // Results in partition order, as the coordinator numbered the workers
+            Arrays.sort(workers, Comparator.comparingInt(SortWorker::getPartition));
+            return report.get();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testWorkersHoldGloballySortedPartitions() throws Exception {
+        Random random = new Random(42);
+        int[][] slices = new int[4][];
+        for (int w = 0; w < slices.length; w++) {
+            slices[w] = random.ints(50000 + random.nextInt(20000)).toArray();
+        }
+        int[] expected = Arrays.stream(slices).flatMapToInt(Arrays::stream).sorted().toArray();
+        SortWorker[] workers = new SortWorker[slices.length];
+
+        SortReport report = runCluster(slices, workers);
+
+        int[] actual = Arrays.stream(workers).flatMapToInt(w -> Arrays.stream(w.getResult())).toArray();
+        assertArrayEquals(expected, actual);
+        assertEquals(expected.length, report.getElements());
+        for (int w = 0; w < workers.length; w++) {
+            assertEquals(workers[w].getResult().length, report.getPartitionSize(w));
+            assertEquals(workers[w].getBytesShuffled(), report.getBytesShuffled(w));
+            assertTrue(report.getBytesShuffled(w) > 0);
+        }
+    }
+
+    @Test
+    void testDuplicatesAndEmptySlices() throws Exception {
+        Random random = new Random(7);
+        int[][] slices = {random.ints(30000, 0, 5).toArray(), new int[0], random.ints(100, 0, 5).toArray()};
+        int[] expected = Arrays.stream(slices).flatMapToInt(Arrays::stream).sorted().toArray();
+        SortWorker[] workers = new SortWorker[slices.length];
+
+        runCluster(slices, workers);
+
+        int[] actual = Arrays.stream(workers).flatMapToInt(w -> Arrays.stream(w.getResult())).toArray();
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    void testSingleWorker() throws Exception {
+        int[][] slices = {new int[]{3, 1, 2}};
+        SortWorker[] workers = new SortWorker[1];
+        SortReport report = runCluster(slices, workers);
+        assertArrayEquals(new int[]{1, 2, 3}, workers[0].getResult());
+        assertEquals(0, report.getBytesShuffled(0));
+    }
+
+    @Test
+    void testCoordinatorTimesOutWaitingForWorkers() throws IOException {
+        try (SortCoordinator coordinator = new SortCoordinator(0, 2, 200)) {
+            assertTimeoutPreemptively(Duration.ofSeconds(10),
+                    () -> assertThrows(SocketTimeoutException.class, coordinator::run));
+        }
+    }
+
+    @Test
+    void testFailedPeerFailsTheWholeRun() throws Exception {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try (SortCoordinator coordinator = new SortCoordinator(0, 2, 10_000)) {
+            Future<SortReport> report = executor.submit(coordinator::run);
+            SortWorker worker = new SortWorker(new Random(1).ints(1000).toArray(), new Metrics(), 10_000);
+            Future<?> running = executor.submit(() -> {
+                worker.run("localhost", coordinator.getPort());
+                return null;
+            });
+            // A peer that registers, takes its id and then disconnects
+            try (Socket peer = new Socket("localhost", coordinator.getPort())) {
+                DataOutputStream out = new DataOutputStream(peer.getOutputStream());
+                out.writeInt(1);
+                out.flush();
+                new DataInputStream(peer.getInputStream()).readInt();
+            }
+
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+                ExecutionException coordinatorFailure = assertThrows(ExecutionException.class, report::get);
+                assertInstanceOf(IOException.class, coordinatorFailure.getCause());
+                ExecutionException workerFailure = assertThrows(ExecutionException.class, running::get);
+                assertInstanceOf(IOException.class, workerFailure.getCause());
+            });
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package divideconquer;
+
+import metrics.Metrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DivideAndConquerRunnerTest {
+
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    // Sums a range by halving it
+    private static class Sum implements DivideAndConquer<Range, Long> {
+        private final int[] array;
+
+        Sum(int[] array) {
+            this.array = array;
+        }
+
+        @Override
+        public int size(Range range) { return range.size(); }
+
+        @Override
+        public Long solveDirectly(Range range, Metrics metrics) {
+            long sum = 0;
+            for (int i = range.left(); i <= range.right(); i++) sum += array[i];
+            return sum;
+        }
+
+        @Override
+        public List<Range> divide(Range range, Metrics metrics) {
+            int mid = range.mid();
+            return List.of(new Range(range.left(), mid), new Range(mid + 1, range.right()));
+        }
+
+        @Override
+        public Long combine(Range range, List<Long> results, Metrics metrics) {
+            return results.get(0) + results.get(1);
+        }
+    }
+
+    @Test
+    void testSequentialAndParallelAgree() {
+        int[] array = new Random(42).ints(100_000, -1000, 1000).toArray();
+        long expected = Arrays.stream(array).asLongStream().sum();
+        DivideAndConquerRunner<Range, Long> runner = new DivideAndConquerRunner<>(new Sum(array), 1000);
+
+        assertEquals(expected, runner.solve(new Range(0, array.length - 1), new Metrics()));
+        assertEquals(expected, runner.solveParallel(new Range(0, array.length - 1), new Metrics(), pool));
+    }
+
+    @Test
+    void testLevelNodesDescribeRecursionTree() {
+        int[] array = new int[1024];
+        DivideAndConquerRunner<Range, Long> runner = new DivideAndConquerRunner<>(new Sum(array), 128);
+
+        Metrics sequential = new Metrics();
+        runner.solve(new Range(0, array.length - 1), sequential);
+        // 1024 halves three times before reaching the cutoff
+        assertArrayEquals(new int[]{1, 2, 4, 8}, sequential.getLevelNodes());
+        assertEquals(3, sequential.getMaxRecursionDepth());
+
+        Metrics parallel = new Metrics();
+        runner.solveParallel(new Range(0, array.length - 1), parallel, pool);
+        assertArrayEquals(sequential.getLevelNodes(), parallel.getLevelNodes());
+        assertEquals(3, parallel.getMaxRecursionDepth());
+    }
+
+    @Test
+    void testProblemAtCutoffIsSolvedDirectly() {
+        int[] array = {1, 2, 3, 4};
+        Metrics metrics = new Metrics();
+        long sum = new DivideAndConquerRunner<>(new Sum(array), 4).solve(new Range(0, 3), metrics);
+
+        assertEquals(10, sum);
+        assertArrayEquals(new int[]{1}, metrics.getLevelNodes());
+        assertEquals(0, metrics.getMaxRecursionDepth());
+    }
+
+    @Test
+    void testSubproblemsMergeMetricsFromForkedTasks() {
+        int[] array = new int[4096];
+        Arrays.fill(array, 1);
+        Metrics metrics = new Metrics();
+
+        long sum = new DivideAndConquerRunner<>(new Sum(array) {
+            @Override
+            public Long solveDirectly(Range range, Metrics m) {
+                m.incrementComparisons(range.size());
+                return super.solveDirectly(range, m);
+            }
+        }, 256).solveParallel(new Range(0, array.length - 1), metrics, pool);
+
+        assertEquals(4096, sum);
+        assertEquals(4096, metrics.getComparisons());
+    }
+
+    @Test
+    void testInvalidCutoff() {
+        assertThrows(IllegalArgumentException.class, () -> new DivideAndConquerRunner<>(new Sum(new int[1]), 0));
+    }
+}
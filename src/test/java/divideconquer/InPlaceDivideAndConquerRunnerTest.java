@@ -0,0 +1,110 @@
+package divideconquer;
+
+import metrics.Metrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InPlaceDivideAndConquerRunnerTest {
+
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    // Sorts a range in place by partitioning around its first element
+    private static class InPlaceSort implements InPlaceDivideAndConquer<Range> {
+        private final int[] array;
+
+        InPlaceSort(int[] array) {
+            this.array = array;
+        }
+
+        @Override
+        public int size(Range range) { return range.size(); }
+
+        @Override
+        public void solveDirectly(Range range, Metrics metrics) {
+            Arrays.sort(array, range.left(), range.right() + 1);
+        }
+
+        @Override
+        public List<Range> divide(Range range, Metrics metrics) {
+            int left = range.left(), right = range.right();
+            int pivot = array[left], store = left;
+            for (int i = left + 1; i <= right; i++) {
+                if (array[i] < pivot) {
+                    int tmp = array[++store];
+                    array[store] = array[i];
+                    array[i] = tmp;
+                }
+            }
+            array[left] = array[store];
+            array[store] = pivot;
+            return List.of(new Range(left, store - 1), new Range(store + 1, right));
+        }
+
+    }
+
+    @Test
+    void testSequentialAndParallelSort() {
+        Random random = new Random(7);
+        for (int n : new int[]{1, 50, 10_000, 200_000}) {
+            int[] array = random.ints(n, 0, 5000).toArray();
+            int[] expected = array.clone();
+            Arrays.sort(expected);
+
+            int[] copy = array.clone();
+            new InPlaceDivideAndConquerRunner<>(new InPlaceSort(copy), 64).solve(new Range(0, n - 1), new Metrics());
+            assertArrayEquals(expected, copy, "Sequential failed for n=" + n);
+
+            new InPlaceDivideAndConquerRunner<>(new InPlaceSort(array), 64).solveParallel(new Range(0, n - 1), new Metrics(), pool);
+            assertArrayEquals(expected, array, "Parallel failed for n=" + n);
+        }
+    }
+
+    @Test
+    void testLoopBoundsNestingOnLopsidedDivisions() {
+        // First-element pivots on sorted input peel off one element per division
+        int[] array = new int[20_000];
+        for (int i = 0; i < array.length; i++) array[i] = i;
+        Metrics metrics = new Metrics();
+
+        new InPlaceDivideAndConquerRunner<>(new InPlaceSort(array), 16).solveParallel(new Range(0, array.length - 1), metrics, pool);
+
+        for (int i = 0; i < array.length; i++) assertEquals(i, array[i]);
+        assertTrue(metrics.getMaxRecursionDepth() <= 2,
+                "Depth was " + metrics.getMaxRecursionDepth());
+    }
+
+    @Test
+    void testLevelNodesCountEveryRange() {
+        // First-element pivots on sorted input leave an empty left side at every division. The
+        // loop takes over the right side at the same depth, as quicksort's tail loop does
+        int[] array = {0, 1, 2, 3};
+        Metrics metrics = new Metrics();
+
+        new InPlaceDivideAndConquerRunner<>(new InPlaceSort(array), 1).solve(new Range(0, 3), metrics);
+
+        assertArrayEquals(new int[]{4, 3}, metrics.getLevelNodes());
+    }
+
+    @Test
+    void testInvalidCutoff() {
+        assertThrows(IllegalArgumentException.class, () -> new InPlaceDivideAndConquerRunner<>(new InPlaceSort(new int[1]), 0));
+    }
+}
@@ -0,0 +1,90 @@
+package util;
+
+import metrics.Metrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScratchArenaTest {
+
+    private Metrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        // The arena is per thread and outlives each test; earlier tests leave arrays in it
+        ScratchArena.clear();
+        metrics = new Metrics();
+    }
+
+    @Test
+    void testBorrowRoundsUpToSizeClass() {
+        int[] ints = ScratchArena.borrowInts(1000, metrics);
+        assertEquals(1024, ints.length);
+        assertEquals(1024L * Integer.BYTES, metrics.getAllocatedBytes());
+        ScratchArena.release(ints);
+    }
+
+    @Test
+    void testReleasedArrayIsReused() {
+        long[] first = ScratchArena.borrowLongs(300, metrics);
+        ScratchArena.release(first);
+        Metrics reuseMetrics = new Metrics();
+        long[] second = ScratchArena.borrowLongs(500, reuseMetrics);
+        assertSame(first, second);
+        ScratchArena.release(second);
+
+        // A cache hit is recorded exactly like the miss before it
+        assertEquals(metrics.getAllocations(), reuseMetrics.getAllocations());
+        assertEquals(metrics.getAllocatedBytes(), reuseMetrics.getAllocatedBytes());
+    }
+
+    @Test
+    void testNestedBorrowsGetDistinctArrays() {
+        int[] outer = ScratchArena.borrowInts(64, metrics);
+        int[] inner = ScratchArena.borrowInts(64, metrics);
+        assertNotSame(outer, inner);
+        ScratchArena.release(inner);
+        ScratchArena.release(outer);
+    }
+
+    @Test
+    void testObjectArraysAreTypedAndCleared() {
+        String[] strings = ScratchArena.borrowObjects(String.class, 10, metrics);
+        strings[0] = "a";
+        strings[1] = "b";
+        ScratchArena.release(strings, 2);
+        assertNull(strings[0]);
+        assertNull(strings[1]);
+
+        Integer[] integers = ScratchArena.borrowObjects(Integer.class, 10, metrics);
+        assertEquals(Integer.class, integers.getClass().getComponentType());
+        assertSame(strings, ScratchArena.borrowObjects(String.class, 16, metrics));
+    }
+
+    @Test
+    void testOversizedArraysAreNotCached() {
+        int[] huge = ScratchArena.borrowInts((1 << 20) + 1, metrics);
+        assertEquals((1 << 20) + 1, huge.length);
+        ScratchArena.release(huge);
+        assertNotSame(huge, ScratchArena.borrowInts((1 << 20) + 1, metrics));
+    }
+
+    @Test
+    void testCapEvictsLargerArrays() {
+        // 8 MB + 4 MB + 4 MB fill the 16 MB budget; releasing 2 MB more evicts the largest class
+        long[] largeLongs = ScratchArena.borrowLongs(1 << 20, metrics);
+        int[] largeInts = ScratchArena.borrowInts(1 << 20, metrics);
+        long[] mediumLongs = ScratchArena.borrowLongs(1 << 19, metrics);
+        int[] mediumInts = ScratchArena.borrowInts(1 << 19, metrics);
+        ScratchArena.release(largeLongs);
+        ScratchArena.release(largeInts);
+        ScratchArena.release(mediumLongs);
+        ScratchArena.release(mediumInts);
+
+        assertNotSame(largeInts, ScratchArena.borrowInts(1 << 20, metrics));
+        assertNotSame(largeLongs, ScratchArena.borrowLongs(1 << 20, metrics));
+        assertSame(mediumLongs, ScratchArena.borrowLongs(1 << 19, metrics));
+        assertSame(mediumInts, ScratchArena.borrowInts(1 << 19, metrics));
+    }
+}
@@ -0,0 +1,60 @@
+package util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TuningProfileTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testSavedProfileLoadsBack() throws IOException {
+        Map<String, Integer> values = new LinkedHashMap<>();
+        values.put(TuningProfile.MERGE_SORT_INSERTION_CUTOFF, 15);
+        values.put(TuningProfile.QUICK_SORT_PARALLEL_GRAIN, 4096);
+        Path path = dir.resolve("tuning.properties");
+        TuningProfile.save(path, values);
+
+        Properties loaded = TuningProfile.load(path);
+        assertEquals(15, TuningProfile.getInt(loaded, TuningProfile.MERGE_SORT_INSERTION_CUTOFF, 7, 1));
+        assertEquals(4096, TuningProfile.getInt(loaded, TuningProfile.QUICK_SORT_PARALLEL_GRAIN, 8192, 16));
+        assertEquals(3, TuningProfile.getInt(loaded, TuningProfile.CLOSEST_PAIR_BRUTE_FORCE_CUTOFF, 3, 1));
+    }
+
+    @Test
+    void testMissingProfileFallsBackToDefaults() {
+        Properties loaded = TuningProfile.load(dir.resolve("absent.properties"));
+        assertTrue(loaded.isEmpty());
+        assertEquals(7, TuningProfile.getInt(loaded, TuningProfile.MERGE_SORT_INSERTION_CUTOFF, 7, 1));
+    }
+
+    @Test
+    void testInvalidValuesFallBackToDefaults() throws IOException {
+        Path path = dir.resolve("broken.properties");
+        Files.writeString(path, "a = twelve\nb = 0\nc = -5\nd = 12\n");
+        Properties loaded = TuningProfile.load(path);
+
+        assertEquals(7, TuningProfile.getInt(loaded, "a", 7, 1));
+        assertEquals(7, TuningProfile.getInt(loaded, "b", 7, 1));
+        assertEquals(7, TuningProfile.getInt(loaded, "c", 7, 1));
+        assertEquals(12, TuningProfile.getInt(loaded, "d", 7, 1));
+    }
+
+    @Test
+    void testUnreadableProfileIsIgnored() throws IOException {
+        Path path = dir.resolve("malformed.properties");
+        // A malformed unicode escape makes Properties.load throw
+        Files.writeString(path, "key = \\uZZZZ\n");
+        assertTrue(TuningProfile.load(path).isEmpty());
+    }
+}